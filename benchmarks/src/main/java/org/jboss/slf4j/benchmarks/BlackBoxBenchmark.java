@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.slf4j.PrimitiveLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the cost of writing each event to the memory-mapped black box file, compared with the same calls without
+ * the file. The handler discards the records, so the difference is the cost of the black box.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlackBoxBenchmark {
+    private static final String BLACK_BOX = "-Dorg.jboss.slf4j.blackbox=blackbox-benchmark.bin";
+
+    private Logger logger;
+    private PrimitiveLogger primitiveLogger;
+    private final Throwable throwable = new RuntimeException("benchmark exception", null, false, false) {
+    };
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        final String name = BlackBoxBenchmark.class.getName();
+        DiscardingHandler.configure(name, java.util.logging.Level.ALL, blackhole);
+        logger = LoggerFactory.getLogger(name);
+        primitiveLogger = (PrimitiveLogger) logger;
+    }
+
+    @Benchmark
+    public void twoArguments() {
+        logger.info("Processed order {} for {}", 42, "customer-7");
+    }
+
+    @Benchmark
+    public void primitives() {
+        primitiveLogger.info("Took {} ms, ratio {}", 1_500_000L, 0.75d);
+    }
+
+    @Benchmark
+    public void withThrowable() {
+        logger.error("Failed order {}", 42, throwable);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void contended() {
+        twoArguments();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = BLACK_BOX)
+    public void blackBoxTwoArguments() {
+        twoArguments();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = BLACK_BOX)
+    public void blackBoxPrimitives() {
+        primitives();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = BLACK_BOX)
+    public void blackBoxWithThrowable() {
+        withThrowable();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = BLACK_BOX)
+    @Threads(4)
+    public void blackBoxContended() {
+        twoArguments();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * Benchmarks the {@link LocationAwareLogger#log(org.slf4j.Marker, String, int, String, Object[], Throwable)} entry
+ * point as each of the bridges invokes it, both with the level enabled and disabled. The bridges do not check the
+ * level before invoking it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BridgeBenchmark {
+    private static final String JUL_FQCN = "java.util.logging.Logger";
+    private static final String JCL_FQCN = "org.apache.commons.logging.impl.SLF4JLocationAwareLog";
+    private static final String LOG4J_FQCN = "org.apache.log4j.Category";
+
+    @Param({ "true", "false" })
+    private boolean enabled;
+
+    private LocationAwareLogger logger;
+    private final Object[] args = { "value", 42 };
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        final String name = BridgeBenchmark.class.getName() + "." + enabled;
+        DiscardingHandler.configure(name, enabled ? java.util.logging.Level.ALL : java.util.logging.Level.INFO,
+                blackhole);
+        logger = (LocationAwareLogger) LoggerFactory.getLogger(name);
+    }
+
+    /**
+     * jul-to-slf4j formats the record itself and passes the message without arguments.
+     */
+    @Benchmark
+    public void julToSlf4j() {
+        logger.log(null, JUL_FQCN, LocationAwareLogger.DEBUG_INT, "A bridged JUL message", null, null);
+    }
+
+    /**
+     * jcl-over-slf4j passes the string form of the message without arguments.
+     */
+    @Benchmark
+    public void jclOverSlf4j() {
+        logger.log(null, JCL_FQCN, LocationAwareLogger.DEBUG_INT, "A bridged JCL message", null, null);
+    }
+
+    /**
+     * log4j-over-slf4j passes the message without arguments.
+     */
+    @Benchmark
+    public void log4jOverSlf4j() {
+        logger.log(null, LOG4J_FQCN, LocationAwareLogger.DEBUG_INT, "A bridged Log4j message", null, null);
+    }
+
+    /**
+     * A caller which passes a pattern and arguments, as a logging facade built on the SLF4J SPI would.
+     */
+    @Benchmark
+    public void withArguments() {
+        logger.log(null, JUL_FQCN, LocationAwareLogger.DEBUG_INT, "A bridged message with arguments: {} and {}", args,
+                null);
+    }
+}
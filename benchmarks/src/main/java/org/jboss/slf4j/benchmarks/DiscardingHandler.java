@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j.benchmarks;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A handler which consumes the message and then discards the record. JBoss Logging uses the JDK log manager for the
+ * benchmarks as no other log manager is configured.
+ */
+class DiscardingHandler extends Handler {
+    private final Blackhole blackhole;
+
+    DiscardingHandler(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+        setLevel(Level.ALL);
+    }
+
+    /**
+     * Configures the JUL logger with the given name to only write to a new discarding handler.
+     *
+     * @param name      the name of the logger
+     * @param level     the level for the logger
+     * @param blackhole the blackhole to consume the messages
+     */
+    static void configure(final String name, final Level level, final Blackhole blackhole) {
+        final Logger logger = Logger.getLogger(name);
+        for (Handler handler : logger.getHandlers()) {
+            logger.removeHandler(handler);
+        }
+        logger.setUseParentHandlers(false);
+        logger.setLevel(level);
+        logger.addHandler(new DiscardingHandler(blackhole));
+    }
+
+    @Override
+    public void publish(final LogRecord record) {
+        blackhole.consume(record.getMessage());
+        blackhole.consume(record.getThrown());
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() throws SecurityException {
+    }
+}
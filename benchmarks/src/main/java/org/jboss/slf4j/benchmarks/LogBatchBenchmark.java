@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.slf4j.JBossLoggerAdapter;
+import org.jboss.slf4j.LogBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+/**
+ * Compares logging a group of related events with a loop of single calls and with a {@link LogBatch}, both
+ * synchronously and with the asynchronous hand-off. The score is the time per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@OperationsPerInvocation(LogBatchBenchmark.EVENTS)
+public class LogBatchBenchmark {
+    static final int EVENTS = 1_000;
+    private static final String ASYNC = "-Dorg.jboss.slf4j.async=true";
+
+    @Param({ "true", "false" })
+    private boolean enabled;
+
+    private Logger logger;
+    private JBossLoggerAdapter adapter;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        final String name = LogBatchBenchmark.class.getName() + "." + enabled;
+        DiscardingHandler.configure(name, enabled ? java.util.logging.Level.ALL : java.util.logging.Level.OFF,
+                blackhole);
+        logger = LoggerFactory.getLogger(name);
+        adapter = (JBossLoggerAdapter) logger;
+    }
+
+    @Benchmark
+    public void singleCalls() {
+        for (int i = 0; i < EVENTS; i++) {
+            logger.debug("Wrote row {} of partition {}", i, "p-42");
+        }
+    }
+
+    @Benchmark
+    public void batch() {
+        final LogBatch batch = adapter.batch(Level.DEBUG);
+        for (int i = 0; i < EVENTS; i++) {
+            batch.add("Wrote row {} of partition {}", i, "p-42");
+        }
+        batch.submit();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = ASYNC)
+    public void asyncSingleCalls() {
+        singleCalls();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = ASYNC)
+    public void asyncBatch() {
+        batch();
+    }
+}
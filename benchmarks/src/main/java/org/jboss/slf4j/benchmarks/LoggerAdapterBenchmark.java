@@ -0,0 +1,275 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.slf4j.PrimitiveLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmarks each of the {@link org.jboss.slf4j.JBossLoggerAdapter} logging overloads for each level, both with the
+ * level enabled and disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerAdapterBenchmark {
+
+    @Param({ "TRACE", "DEBUG", "INFO", "WARN", "ERROR" })
+    private String level;
+
+    @Param({ "true", "false" })
+    private boolean enabled;
+
+    private Logger logger;
+    private PrimitiveLogger primitiveLogger;
+    private org.slf4j.event.Level eventLevel;
+    private final Object arg1 = "value";
+    private final Object arg2 = 42;
+    private final Object[] args = { "value", 42, 3.14, Boolean.TRUE };
+    private long latency = 1_500_000L;
+    private double ratio = 0.75d;
+    private final Throwable throwable = new RuntimeException("benchmark exception", null, false, false) {
+    };
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        final String name = LoggerAdapterBenchmark.class.getName() + "." + level + "." + enabled;
+        DiscardingHandler.configure(name, enabled ? java.util.logging.Level.ALL : java.util.logging.Level.OFF,
+                blackhole);
+        logger = LoggerFactory.getLogger(name);
+        primitiveLogger = (PrimitiveLogger) logger;
+        eventLevel = org.slf4j.event.Level.valueOf(level);
+    }
+
+    @Benchmark
+    public boolean isEnabled() {
+        switch (level) {
+            case "TRACE":
+                return logger.isTraceEnabled();
+            case "DEBUG":
+                return logger.isDebugEnabled();
+            case "INFO":
+                return logger.isInfoEnabled();
+            case "WARN":
+                return logger.isWarnEnabled();
+            default:
+                return logger.isErrorEnabled();
+        }
+    }
+
+    @Benchmark
+    public void noArgs() {
+        final String msg = "A message without any arguments";
+        switch (level) {
+            case "TRACE":
+                logger.trace(msg);
+                break;
+            case "DEBUG":
+                logger.debug(msg);
+                break;
+            case "INFO":
+                logger.info(msg);
+                break;
+            case "WARN":
+                logger.warn(msg);
+                break;
+            default:
+                logger.error(msg);
+        }
+    }
+
+    @Benchmark
+    public void oneArg() {
+        final String format = "A message with one argument: {}";
+        switch (level) {
+            case "TRACE":
+                logger.trace(format, arg1);
+                break;
+            case "DEBUG":
+                logger.debug(format, arg1);
+                break;
+            case "INFO":
+                logger.info(format, arg1);
+                break;
+            case "WARN":
+                logger.warn(format, arg1);
+                break;
+            default:
+                logger.error(format, arg1);
+        }
+    }
+
+    @Benchmark
+    public void twoArgs() {
+        final String format = "A message with two arguments: {} and {}";
+        switch (level) {
+            case "TRACE":
+                logger.trace(format, arg1, arg2);
+                break;
+            case "DEBUG":
+                logger.debug(format, arg1, arg2);
+                break;
+            case "INFO":
+                logger.info(format, arg1, arg2);
+                break;
+            case "WARN":
+                logger.warn(format, arg1, arg2);
+                break;
+            default:
+                logger.error(format, arg1, arg2);
+        }
+    }
+
+    @Benchmark
+    public void varArgs() {
+        final String format = "A message with several arguments: {}, {}, {} and {}";
+        switch (level) {
+            case "TRACE":
+                logger.trace(format, args);
+                break;
+            case "DEBUG":
+                logger.debug(format, args);
+                break;
+            case "INFO":
+                logger.info(format, args);
+                break;
+            case "WARN":
+                logger.warn(format, args);
+                break;
+            default:
+                logger.error(format, args);
+        }
+    }
+
+    @Benchmark
+    public void throwable() {
+        final String msg = "A message with a throwable";
+        switch (level) {
+            case "TRACE":
+                logger.trace(msg, throwable);
+                break;
+            case "DEBUG":
+                logger.debug(msg, throwable);
+                break;
+            case "INFO":
+                logger.info(msg, throwable);
+                break;
+            case "WARN":
+                logger.warn(msg, throwable);
+                break;
+            default:
+                logger.error(msg, throwable);
+        }
+    }
+
+    @Benchmark
+    public void fluent() {
+        logger.atLevel(eventLevel)
+                .addArgument(arg1)
+                .addArgument(() -> arg2)
+                .log("A fluent message with two arguments: {} and {}");
+    }
+
+    @Benchmark
+    public void argAndThrowable() {
+        final String format = "A message with one argument and a trailing throwable: {}";
+        switch (level) {
+            case "TRACE":
+                logger.trace(format, arg1, throwable);
+                break;
+            case "DEBUG":
+                logger.debug(format, arg1, throwable);
+                break;
+            case "INFO":
+                logger.info(format, arg1, throwable);
+                break;
+            case "WARN":
+                logger.warn(format, arg1, throwable);
+                break;
+            default:
+                logger.error(format, arg1, throwable);
+        }
+    }
+
+    /**
+     * Logs a {@code long} and a {@code double} through the {@link Logger} overloads, which box them.
+     */
+    @Benchmark
+    public void boxedPrimitives() {
+        final String format = "A message with primitive arguments: {} ns and {}";
+        switch (level) {
+            case "TRACE":
+                logger.trace(format, latency, ratio);
+                break;
+            case "DEBUG":
+                logger.debug(format, latency, ratio);
+                break;
+            case "INFO":
+                logger.info(format, latency, ratio);
+                break;
+            case "WARN":
+                logger.warn(format, latency, ratio);
+                break;
+            default:
+                logger.error(format, latency, ratio);
+        }
+    }
+
+    /**
+     * Logs a {@code long} and a {@code double} through the {@link PrimitiveLogger} overloads.
+     */
+    @Benchmark
+    public void primitives() {
+        final String format = "A message with primitive arguments: {} ns and {}";
+        switch (level) {
+            case "TRACE":
+                primitiveLogger.trace(format, latency, ratio);
+                break;
+            case "DEBUG":
+                primitiveLogger.debug(format, latency, ratio);
+                break;
+            case "INFO":
+                primitiveLogger.info(format, latency, ratio);
+                break;
+            case "WARN":
+                primitiveLogger.warn(format, latency, ratio);
+                break;
+            default:
+                primitiveLogger.error(format, latency, ratio);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.slf4j.JBossLoggerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+
+/**
+ * Benchmarks {@link JBossLoggerFactory#getLogger(String)} for loggers which have already been created, hits, and for
+ * loggers which have not been created yet, misses. Each is run single threaded and with as many threads as there are
+ * available processors to show the effect of contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerFactoryBenchmark {
+    private static final int NAME_COUNT = 1024;
+    private static final int MASK = NAME_COUNT - 1;
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    private final String[] names = new String[NAME_COUNT];
+    private JBossLoggerFactory factory;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private final String prefix = LoggerFactoryBenchmark.class.getName() + ".miss" + THREAD_IDS.incrementAndGet()
+                + ".";
+        private int index;
+        private long misses;
+    }
+
+    @Setup
+    public void createNames() {
+        for (int i = 0; i < NAME_COUNT; i++) {
+            names[i] = LoggerFactoryBenchmark.class.getName() + ".hit." + i;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createFactory() {
+        factory = new JBossLoggerFactory();
+        for (String name : names) {
+            factory.getLogger(name);
+        }
+    }
+
+    @Benchmark
+    public Logger hit(final ThreadState state) {
+        return factory.getLogger(names[state.index++ & MASK]);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Logger hitContended(final ThreadState state) {
+        return factory.getLogger(names[state.index++ & MASK]);
+    }
+
+    @Benchmark
+    public Logger miss(final ThreadState state) {
+        return factory.getLogger(state.prefix + state.misses++);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Logger missContended(final ThreadState state) {
+        return factory.getLogger(state.prefix + state.misses++);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.slf4j.JBossMDCAdapter;
+import org.jboss.slf4j.PersistentMDCAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link JBossMDCAdapter} and {@link PersistentMDCAdapter} operations with a varying number of entries
+ * in the context.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MDCAdapterBenchmark {
+
+    @Param({ "1", "5", "20" })
+    private int size;
+
+    @Param({ "false", "true" })
+    private boolean persistent;
+
+    private JBossMDCAdapter adapter;
+    private String[] keys;
+    private Map<String, String> snapshot;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        adapter = persistent ? new PersistentMDCAdapter() : new JBossMDCAdapter();
+        adapter.clear();
+        keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "key" + i;
+            adapter.put(keys[i], "value" + i);
+        }
+        snapshot = adapter.getCopyOfContextMap();
+    }
+
+    @Benchmark
+    public void put() {
+        adapter.put(keys[0], "value");
+    }
+
+    @Benchmark
+    public String get() {
+        return adapter.get(keys[size - 1]);
+    }
+
+    @Benchmark
+    public Map<String, String> getCopyOfContextMap() {
+        return adapter.getCopyOfContextMap();
+    }
+
+    @Benchmark
+    public void setContextMap() {
+        adapter.setContextMap(snapshot);
+    }
+
+    /**
+     * Captures the context and restores it after changing an entry, as a task hand-off would.
+     */
+    @Benchmark
+    public Map<String, String> handOff() {
+        final Map<String, String> previous = adapter.getCopyOfContextMap();
+        adapter.put(keys[0], "task");
+        adapter.setContextMap(previous);
+        return previous;
+    }
+}
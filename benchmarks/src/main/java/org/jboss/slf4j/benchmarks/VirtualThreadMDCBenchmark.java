@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.slf4j.JBossMDCAdapter;
+import org.jboss.slf4j.ScopedMDCAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap used by each thread which carries an MDC context. The context is set on the benchmark thread and
+ * propagated to each new thread, which then adds an entry of its own. The {@link JBossMDCAdapter} copies the context
+ * into each thread while the {@link ScopedMDCAdapter} shares the immutable context of the benchmark thread.
+ * <p>
+ * Virtual threads are used on Java 21 or later, otherwise platform threads are used. The score is the time taken to
+ * start the threads. Each invocation starts {@code threads} threads, so the {@code gc.alloc.rate.norm} reported by the
+ * GC profiler, which the {@link BenchmarkRunner} always adds, divided by {@code threads} is the heap per thread,
+ * including the thread itself.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadMDCBenchmark {
+
+    @Param({ "10000" })
+    private int threads;
+
+    @Param({ "5", "20" })
+    private int size;
+
+    @Param({ "jboss", "scoped" })
+    private String adapter;
+
+    private JBossMDCAdapter mdcAdapter;
+    private ThreadFactory threadFactory;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mdcAdapter = "scoped".equals(adapter) ? new ScopedMDCAdapter() : new JBossMDCAdapter();
+        threadFactory = virtualThreadFactory();
+        for (int i = 0; i < size; i++) {
+            mdcAdapter.put("key" + i, "value" + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mdcAdapter.clear();
+    }
+
+    @Benchmark
+    public void heapPerThread() throws Exception {
+        final Map<String, String> context = mdcAdapter.getCopyOfContextMap();
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread[] started = new Thread[threads];
+
+        for (int i = 0; i < threads; i++) {
+            final String value = "thread" + i;
+            started[i] = threadFactory.newThread(() -> {
+                mdcAdapter.setContextMap(context);
+                mdcAdapter.put("thread", value);
+                ready.countDown();
+                try {
+                    // keep all the threads, and their contexts, alive at the same time
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            started[i].start();
+        }
+        ready.await();
+        release.countDown();
+        for (Thread thread : started) {
+            thread.join();
+        }
+    }
+
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            // Thread.ofVirtual().factory() is only available on Java 21 or later
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            return Executors.defaultThreadFactory();
+        }
+    }
+}
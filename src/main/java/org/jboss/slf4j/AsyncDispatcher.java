@@ -0,0 +1,609 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.LogRecord;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.MDC;
+
+/**
+ * Hands log events off to a background thread which logs them to JBoss Logging. Enabled with the
+ * {@value #ENABLED_PROPERTY} system property.
+ * <p>
+ * Events are placed in a pre-allocated ring buffer which any number of threads can write to without locking. The
+ * message is formatted and the {@link MDC} is copied before the hand-off as the arguments may be changed once the
+ * logging method returns. The caller is also resolved before the hand-off.
+ * </p>
+ * <p>
+ * The record is created by this class with the level of the provider and the caller, time and thread ID of the
+ * logging thread. Only the JDK provider logs such a record as it was created. The JBoss Log Manager replaces the thread
+ * name with the name of the background thread and the other providers resolve the caller on the background thread, so
+ * with those the asynchronous mode is not started and events are logged directly.
+ * </p>
+ * <p>
+ * If the buffer is full the {@link OverflowPolicy} decides whether the event waits for space or is dropped. Dropped
+ * events are counted per level and periodically reported with a warning.
+ * </p>
+ */
+final class AsyncDispatcher {
+    static final String ENABLED_PROPERTY = "org.jboss.slf4j.async";
+
+    /**
+     * Indicates whether the asynchronous mode has been enabled and is supported by the provider.
+     */
+    static final boolean ENABLED;
+
+    /**
+     * The dispatcher used by all the adapters or {@code null} if the asynchronous mode is not enabled.
+     */
+    static final AsyncDispatcher INSTANCE;
+
+    private static final String THREAD_NAME = "slf4j-jboss-logging-async";
+    private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(1L);
+    private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toNanos(5L);
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    private static final Level[] LEVELS = Level.values();
+    private static final String JDK_PROVIDER = "org.jboss.logging.JDKLogger";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    static {
+        AsyncDispatcher dispatcher = null;
+        if (Boolean.parseBoolean(SecurityActions.getSystemProperty(ENABLED_PROPERTY))) {
+            if (isSupported()) {
+                dispatcher = startConfigured();
+            } else {
+                InternalReporter.warn(
+                        "Asynchronous logging is only supported with the JDK log manager, events are logged directly");
+            }
+        }
+        INSTANCE = dispatcher;
+        ENABLED = dispatcher != null;
+    }
+
+    private static AsyncDispatcher startConfigured() {
+        final int capacity = SecurityActions.getIntSystemProperty("org.jboss.slf4j.async.buffer.size", 8192);
+        final OverflowPolicy policy = OverflowPolicy
+                .parse(SecurityActions.getSystemProperty("org.jboss.slf4j.async.overflow"));
+        final Level discardLevel = parseLevel(SecurityActions.getSystemProperty("org.jboss.slf4j.async.discard.level"));
+        final int sampleRate = SecurityActions.getIntSystemProperty("org.jboss.slf4j.async.sample.rate", 10);
+        final String location = SecurityActions.getSystemProperty("org.jboss.slf4j.async.location");
+        final AsyncDispatcher dispatcher = start(capacity, policy, discardLevel, sampleRate,
+                location == null || Boolean.parseBoolean(location));
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread(dispatcher::stop, THREAD_NAME + "-shutdown"));
+        } catch (SecurityException ignore) {
+            // events still in the buffer when the JVM exits are lost
+        }
+        return dispatcher;
+    }
+
+    /**
+     * What to do with an event when the buffer is full.
+     */
+    enum OverflowPolicy {
+        /**
+         * Waits for space in the buffer.
+         */
+        BLOCK,
+        /**
+         * Drops events at or below the discard level and waits for space for any other event.
+         */
+        DROP_LOWEST_LEVEL,
+        /**
+         * Keeps one of every sample rate events, which waits for space, and drops the others.
+         */
+        SAMPLE;
+
+        static OverflowPolicy parse(final String value) {
+            if (value == null || value.isBlank()) {
+                return BLOCK;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                InternalReporter.warn("Unknown overflow policy " + value + ", using " + BLOCK);
+                return BLOCK;
+            }
+        }
+    }
+
+    private final Event[] events;
+    // the position each slot expects to be written at, or the position plus one once the slot has been written
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private final OverflowPolicy policy;
+    private final Level discardLevel;
+    private final int sampleRate;
+    private final AtomicLong overflows = new AtomicLong();
+    private final LongAdder[] dropped;
+    private final boolean captureLocation;
+    // the levels of the provider, indexed by the level ordinal
+    private final java.util.logging.Level[] julLevels;
+
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean sleeping;
+
+    // only accessed by the dispatcher thread
+    private final Map<JBossLoggerAdapter, java.util.logging.Logger> julLoggers = new IdentityHashMap<>();
+    private long reportedDropped;
+    private long lastReport;
+
+    private AsyncDispatcher(final int capacity, final OverflowPolicy policy, final Level discardLevel,
+            final int sampleRate, final boolean captureLocation) {
+        final int size = capacity <= 1 ? 2 : Integer.highestOneBit(Math.min(capacity, 1 << 30) - 1) << 1;
+        events = new Event[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            events[i] = new Event();
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+        this.policy = policy;
+        this.discardLevel = discardLevel;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.captureLocation = captureLocation;
+        julLevels = julLevels();
+        dropped = new LongAdder[LEVELS.length];
+        for (int i = 0; i < dropped.length; i++) {
+            dropped[i] = new LongAdder();
+        }
+        thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Creates and starts a dispatcher.
+     *
+     * @param capacity        the size of the buffer, rounded up to a power of two
+     * @param policy          what to do when the buffer is full
+     * @param discardLevel    the most severe level dropped by {@link OverflowPolicy#DROP_LOWEST_LEVEL}
+     * @param sampleRate      one of every {@code sampleRate} events is kept by {@link OverflowPolicy#SAMPLE}
+     * @param captureLocation {@code true} if the caller should be resolved before the hand-off
+     *
+     * @return the started dispatcher
+     */
+    static AsyncDispatcher start(final int capacity, final OverflowPolicy policy, final Level discardLevel,
+            final int sampleRate, final boolean captureLocation) {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(capacity, policy, discardLevel, sampleRate,
+                captureLocation);
+        dispatcher.thread.start();
+        return dispatcher;
+    }
+
+    /**
+     * Hands the event off to the background thread. The level must have already been checked.
+     *
+     * @param adapter the adapter the event was logged to
+     * @param level   the level of the event
+     * @param fqcn    the class name used to resolve the caller
+     * @param message the message, which is converted to a string before this method returns
+     * @param t       the cause or {@code null}
+     */
+    void dispatch(final JBossLoggerAdapter adapter, final Level level, final String fqcn, final Object message,
+            final Throwable t) {
+        if (!running || Thread.currentThread() == thread) {
+            // logging from a handler would otherwise wait on itself
+            adapter.logger.log(level, fqcn, message, t);
+            return;
+        }
+        // capture everything before claiming a slot so the slot is written as quickly as possible
+        final String formatted = message == null ? null : message.toString();
+        // some providers return the live map
+        final Map<String, Object> context = MDC.getMap();
+        final Map<String, Object> mdc = context == null || context.isEmpty() ? null : new HashMap<>(context);
+        final StackWalker.StackFrame caller = captureLocation ? findCaller(fqcn) : null;
+        final Instant instant = Instant.now();
+
+        final long position = claim(level);
+        if (position < 0L) {
+            dropped[level.ordinal()].increment();
+            return;
+        }
+        final int index = (int) position & mask;
+        final Event event = events[index];
+        event.adapter = adapter;
+        event.level = level;
+        event.fqcn = fqcn;
+        event.message = formatted;
+        event.thrown = t;
+        event.mdc = mdc;
+        if (caller != null) {
+            event.sourceClassName = caller.getClassName();
+            event.sourceMethodName = caller.getMethodName();
+        }
+        event.instant = instant;
+        event.threadId = Thread.currentThread().getId();
+        // publish the event
+        sequences.set(index, position + 1L);
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Hands a batch of events off to the background thread. The level must have already been checked. The
+     * {@link MDC}, caller and time are captured once for the batch and the slots for the batch are claimed at once.
+     * If the buffer does not have space for the whole batch the remaining events are handed off one at a time.
+     *
+     * @param adapter  the adapter the events were logged to
+     * @param level    the level of the events
+     * @param fqcn     the class name used to resolve the caller
+     * @param messages the messages, which are converted to strings before this method returns
+     * @param thrown   the causes, indexed as the messages
+     * @param size     the number of events
+     */
+    void dispatchAll(final JBossLoggerAdapter adapter, final Level level, final String fqcn, final Object[] messages,
+            final Throwable[] thrown, final int size) {
+        if (!running || Thread.currentThread() == thread) {
+            for (int i = 0; i < size; i++) {
+                adapter.logger.log(level, fqcn, messages[i], thrown[i]);
+            }
+            return;
+        }
+        final String[] formatted = new String[size];
+        for (int i = 0; i < size; i++) {
+            formatted[i] = messages[i] == null ? null : messages[i].toString();
+        }
+        final Map<String, Object> context = MDC.getMap();
+        // the copy is only read, so the events share it
+        final Map<String, Object> mdc = context == null || context.isEmpty() ? null : new HashMap<>(context);
+        final StackWalker.StackFrame caller = captureLocation ? findCaller(fqcn) : null;
+        final Instant instant = Instant.now();
+        final long threadId = Thread.currentThread().getId();
+
+        int offset = 0;
+        while (offset < size) {
+            final int count = Math.min(size - offset, mask + 1);
+            final long start = claimAll(count);
+            if (start < 0L) {
+                // not enough space, the overflow policy applies to each of the remaining events
+                for (int i = offset; i < size; i++) {
+                    dispatch(adapter, level, fqcn, formatted[i], thrown[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                final long position = start + i;
+                final int index = (int) position & mask;
+                final Event event = events[index];
+                event.adapter = adapter;
+                event.level = level;
+                event.fqcn = fqcn;
+                event.message = formatted[offset + i];
+                event.thrown = thrown[offset + i];
+                event.mdc = mdc;
+                if (caller != null) {
+                    event.sourceClassName = caller.getClassName();
+                    event.sourceMethodName = caller.getMethodName();
+                }
+                event.instant = instant;
+                event.threadId = threadId;
+                sequences.set(index, position + 1L);
+            }
+            offset += count;
+        }
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Waits for the events which have been handed off to be logged.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     *
+     * @return {@code true} if the events were logged, {@code false} if the wait timed out
+     */
+    boolean flush(final long timeout, final TimeUnit unit) {
+        final long target = tail.get();
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (head < target) {
+            if (!thread.isAlive() || System.nanoTime() - deadline >= 0L) {
+                return false;
+            }
+            LockSupport.unpark(thread);
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Logs the remaining events and stops the background thread. Events logged after the dispatcher has been stopped
+     * are logged directly.
+     */
+    void stop() {
+        flush(SHUTDOWN_TIMEOUT, TimeUnit.NANOSECONDS);
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Returns the number of events at the level which were dropped as the buffer was full.
+     *
+     * @param level the level
+     *
+     * @return the number of dropped events
+     */
+    long droppedCount(final Level level) {
+        return dropped[level.ordinal()].sum();
+    }
+
+    /**
+     * Returns the total number of events which were dropped as the buffer was full.
+     *
+     * @return the number of dropped events
+     */
+    long droppedCount() {
+        long total = 0L;
+        for (LongAdder adder : dropped) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    private long claim(final Level level) {
+        boolean overflowed = false;
+        int tries = 0;
+        for (;;) {
+            final long position = tail.get();
+            final long available = sequences.get((int) position & mask) - position;
+            if (available == 0L) {
+                if (tail.compareAndSet(position, position + 1L)) {
+                    return position;
+                }
+            } else if (available < 0L) {
+                // the buffer is full, the policy is only applied once per event
+                if (!overflowed) {
+                    if (isDropped(level)) {
+                        return -1L;
+                    }
+                    overflowed = true;
+                }
+                if (!running) {
+                    return -1L;
+                }
+                backOff(tries++);
+            }
+            // otherwise another thread claimed the position, try the next one
+        }
+    }
+
+    /**
+     * Claims consecutive positions without waiting.
+     *
+     * @param count the number of positions, at most the size of the buffer
+     *
+     * @return the first position or {@code -1} if the buffer does not have space for all of them
+     */
+    private long claimAll(final int count) {
+        for (;;) {
+            final long position = tail.get();
+            final long last = position + count - 1L;
+            // slots are freed in order, so if the last slot is free for this cycle so are the ones before it
+            final long available = sequences.get((int) last & mask) - last;
+            if (available == 0L) {
+                if (tail.compareAndSet(position, position + count)) {
+                    return position;
+                }
+            } else if (available < 0L) {
+                return -1L;
+            }
+            // otherwise another thread claimed the positions, try again
+        }
+    }
+
+    private boolean isDropped(final Level level) {
+        switch (policy) {
+            case DROP_LOWEST_LEVEL:
+                return level.ordinal() >= discardLevel.ordinal();
+            case SAMPLE:
+                return overflows.incrementAndGet() % sampleRate != 0L;
+            default:
+                return false;
+        }
+    }
+
+    private static void backOff(final int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    private void run() {
+        lastReport = System.nanoTime();
+        while (running || head < tail.get()) {
+            if (drain() == 0) {
+                reportDropped();
+                sleeping = true;
+                // check again after announcing the sleep as a producer may not have seen the flag
+                if (isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                sleeping = false;
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        final long position = head;
+        return sequences.get((int) position & mask) != position + 1L;
+    }
+
+    private int drain() {
+        int count = 0;
+        long position = head;
+        for (;;) {
+            final int index = (int) position & mask;
+            if (sequences.get(index) != position + 1L) {
+                return count;
+            }
+            final Event event = events[index];
+            try {
+                publish(event);
+            } catch (Throwable t) {
+                InternalReporter.error("Failed to log an asynchronous event", t);
+            } finally {
+                event.clear();
+            }
+            // free the slot for the next cycle around the buffer
+            sequences.set(index, position + mask + 1L);
+            head = ++position;
+            count++;
+        }
+    }
+
+    private void publish(final Event event) {
+        final Map<String, Object> mdc = event.mdc;
+        if (mdc != null) {
+            for (Map.Entry<String, Object> entry : mdc.entrySet()) {
+                MDC.put(entry.getKey(), entry.getValue());
+            }
+        }
+        try {
+            final java.util.logging.Logger julLogger = julLogger(event.adapter);
+            final LogRecord record = new LogRecord(julLevels[event.level.ordinal()], event.message);
+            record.setLoggerName(julLogger.getName());
+            record.setThrown(event.thrown);
+            // setting the source, even to null, keeps the log manager from resolving it on this thread
+            record.setSourceClassName(event.sourceClassName);
+            record.setSourceMethodName(event.sourceMethodName);
+            record.setInstant(event.instant);
+            record.setThreadID((int) event.threadId);
+            julLogger.log(record);
+        } finally {
+            if (mdc != null) {
+                MDC.clear();
+            }
+        }
+    }
+
+    private java.util.logging.Logger julLogger(final JBossLoggerAdapter adapter) {
+        // the JDK provider logs to the JUL logger of the same name
+        return julLoggers.computeIfAbsent(adapter, a -> java.util.logging.Logger.getLogger(a.getName()));
+    }
+
+    private static boolean isSupported() {
+        return JDK_PROVIDER.equals(Logger.getLogger(AsyncDispatcher.class.getName()).getClass().getName());
+    }
+
+    private static java.util.logging.Level[] julLevels() {
+        try {
+            // the levels of the JDK provider are registered with JUL once the class is initialized
+            Class.forName("org.jboss.logging.JDKLevel", true, Logger.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The JDK provider of JBoss Logging is not available", e);
+        }
+        final java.util.logging.Level[] levels = new java.util.logging.Level[LEVELS.length];
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = java.util.logging.Level.parse(LEVELS[i].name());
+        }
+        return levels;
+    }
+
+    private void reportDropped() {
+        final long now = System.nanoTime();
+        if (now - lastReport < REPORT_INTERVAL) {
+            return;
+        }
+        lastReport = now;
+        final long total = droppedCount();
+        if (total > reportedDropped) {
+            Logger.getLogger(AsyncDispatcher.class.getPackageName()).warnf(
+                    "%d log events were dropped as the asynchronous logging buffer was full", total - reportedDropped);
+            reportedDropped = total;
+        }
+    }
+
+    private static StackWalker.StackFrame findCaller(final String fqcn) {
+        return WALKER.walk(frames -> {
+            boolean found = false;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                if (fqcn.equals(frame.getClassName())) {
+                    found = true;
+                } else if (found) {
+                    return frame;
+                }
+            }
+            return null;
+        });
+    }
+
+    private static Level parseLevel(final String value) {
+        if (value == null || value.isBlank()) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            InternalReporter.warn("Unknown discard level " + value + ", using " + Level.INFO);
+            return Level.INFO;
+        }
+    }
+
+    private static final class Event {
+        JBossLoggerAdapter adapter;
+        Level level;
+        String fqcn;
+        String message;
+        Throwable thrown;
+        Map<String, Object> mdc;
+        String sourceClassName;
+        String sourceMethodName;
+        Instant instant;
+        long threadId;
+
+        void clear() {
+            adapter = null;
+            level = null;
+            fqcn = null;
+            message = null;
+            thrown = null;
+            mdc = null;
+            sourceClassName = null;
+            sourceMethodName = null;
+            instant = null;
+            threadId = 0L;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger.Level;
+
+/**
+ * Writes a compact binary copy of each event passed to the log manager to a fixed-size, memory-mapped circular file.
+ * Enabled with the {@value #FILE_PROPERTY} system property, which is the path of the file.
+ * <p>
+ * The pages of the file are written back by the operating system, so the most recent events survive the JVM crashing
+ * or being killed even if the handlers had not written them yet. They do not survive the operating system crashing.
+ * The file holds the number of events set with the {@value #SIZE_PROPERTY} system property, each in a slot of
+ * {@value #SLOT_SIZE} bytes, and the oldest events are overwritten. The slot of an event is picked with a single atomic
+ * increment and then claimed by setting its stamp to an odd value, the stamp is only set to the even value of the event
+ * once the event has been written. An event whose slot is still held by a writer a whole lap behind is dropped rather
+ * than written over the other event.
+ * </p>
+ * <p>
+ * An event holds the time, thread and level, the logger name and pattern as the offsets of strings written once to
+ * the dictionary of the file, the unformatted arguments and the type and message of the throwable. The message of an
+ * event tagged by the {@link StackDeduplicator} is written the same way, followed by the fingerprint and occurrences
+ * of the stack. Only strings, enums, and primitives and their wrappers are written as values. Any other argument is
+ * written as its type, so recording an event never invokes {@code toString()} on an argument. Messages without a
+ * pattern, and patterns once the dictionary is full, are written as text. Text which does not fit in the slot is
+ * truncated. A file left by a previous run is renamed with a {@code .previous} suffix when the file is opened, and the
+ * files are turned back into text with {@link BlackBoxDecoder}.
+ * </p>
+ */
+final class BlackBox {
+    static final String FILE_PROPERTY = "org.jboss.slf4j.blackbox";
+    static final String SIZE_PROPERTY = "org.jboss.slf4j.blackbox.size";
+
+    // the layout of the file, read by the BlackBoxDecoder
+    static final long MAGIC = 0x534c46344a424258L;
+    static final int VERSION = 3;
+    static final int HEADER_SIZE = 64;
+    static final int HEADER_VERSION = 8;
+    static final int HEADER_SLOT_COUNT = 12;
+    static final int HEADER_DICTIONARY_SIZE = 16;
+    static final int HEADER_START = 24;
+    static final int DICTIONARY_SIZE = 1 << 20;
+    static final int SLOT_SIZE = 256;
+
+    // the layout of a slot, the stamp is twice the sequence of the event plus one once it has been written, odd while
+    // the slot is written and zero if it has never been written
+    static final int SLOT_STAMP = 0;
+    static final int SLOT_TIME = 8;
+    static final int SLOT_THREAD = 16;
+    static final int SLOT_LEVEL = 24;
+    static final int SLOT_FIELD_COUNT = 25;
+    static final int SLOT_FLAGS = 26;
+    static final int SLOT_LOGGER = 28;
+    static final int SLOT_PATTERN = 32;
+    static final int SLOT_FIELDS = 36;
+
+    // the throwable type and message are the first two fields
+    static final int FLAG_THROWN = 1;
+    static final int FLAG_TRUNCATED = 2;
+    // the fingerprint and occurrences of the stack follow the throwable
+    static final int FLAG_STACK = 4;
+
+    // the types of the fields
+    static final byte NULL = 0;
+    static final byte STRING = 1;
+    static final byte INT = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte BOOLEAN = 5;
+    static final byte TYPE = 6;
+    static final byte CHAR = 7;
+    static final byte FLOAT = 8;
+
+    /**
+     * The offset written in place of a string which is not in the dictionary.
+     */
+    static final int NO_ID = -1;
+
+    private static final int MAX_DICTIONARY_TEXT = 1024;
+    // the mapped file is page aligned and the stamps are at multiples of eight, so they can be updated atomically
+    private static final VarHandle STAMP = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * The black box used by all the adapters or {@code null} if it is not enabled.
+     */
+    static final BlackBox INSTANCE;
+
+    /**
+     * Indicates whether the file has been configured and opened.
+     */
+    static final boolean ENABLED;
+
+    static {
+        BlackBox instance = null;
+        final String file = SecurityActions.getSystemProperty(FILE_PROPERTY);
+        if (file != null && !file.isBlank()) {
+            try {
+                instance = open(Path.of(file.trim()), SecurityActions.getIntSystemProperty(SIZE_PROPERTY, 16384));
+            } catch (IOException | RuntimeException e) {
+                InternalReporter.error("The black box file " + file + " could not be opened", e);
+            }
+        }
+        INSTANCE = instance;
+        ENABLED = instance != null;
+    }
+
+    private final ByteBuffer buffer;
+    private final int mask;
+    private final int slots;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    // guarded by ids
+    private int dictionaryPosition;
+    private volatile boolean dictionaryFull;
+
+    BlackBox(final ByteBuffer buffer, final int slotCount) {
+        this.buffer = buffer;
+        this.mask = slotCount - 1;
+        this.slots = HEADER_SIZE + DICTIONARY_SIZE;
+        buffer.putLong(0, MAGIC);
+        buffer.putInt(HEADER_VERSION, VERSION);
+        buffer.putInt(HEADER_SLOT_COUNT, slotCount);
+        buffer.putInt(HEADER_DICTIONARY_SIZE, DICTIONARY_SIZE);
+        buffer.putLong(HEADER_START, System.currentTimeMillis());
+    }
+
+    /**
+     * Creates the file and maps it. An existing file is renamed with a {@code .previous} suffix.
+     *
+     * @param file the path of the file
+     * @param size the number of events the file holds, rounded up to a power of two
+     *
+     * @return the black box writing to the file
+     *
+     * @throws IOException if the file cannot be created
+     */
+    static BlackBox open(final Path file, final int size) throws IOException {
+        final int slotCount = size <= 1 ? 2 : Integer.highestOneBit(Math.min(size, 1 << 22) - 1) << 1;
+        if (Files.exists(file)) {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".previous"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        final long length = HEADER_SIZE + DICTIONARY_SIZE + (long) slotCount * SLOT_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // the mapping remains valid once the channel has been closed
+            return new BlackBox(channel.map(FileChannel.MapMode.READ_WRITE, 0L, length), slotCount);
+        }
+    }
+
+    /**
+     * Writes an event to the next slot.
+     *
+     * @param loggerName the name of the logger
+     * @param level      the level of the event
+     * @param message    the message, which is not formatted if it is a {@link DeferredMessage} or a reference to one
+     * @param t          the throwable or {@code null}
+     */
+    void record(final String loggerName, final Level level, final Object message, final Throwable t) {
+        final long sequence = this.sequence.getAndIncrement();
+        final int slot = slots + ((int) sequence & mask) * SLOT_SIZE;
+        final ByteBuffer buffer = this.buffer;
+        // the slot is held by a writer which wrapped around, or already holds a more recent event
+        final long stamp = (long) STAMP.getVolatile(buffer, slot + SLOT_STAMP);
+        if ((stamp & 1L) != 0L || stamp >>> 1 > sequence
+                || !STAMP.compareAndSet(buffer, slot + SLOT_STAMP, stamp, (sequence << 1) | 1L)) {
+            return;
+        }
+        // a slot torn by a crash keeps the odd stamp and is skipped by the decoder
+        buffer.putLong(slot + SLOT_TIME, System.currentTimeMillis());
+        buffer.putLong(slot + SLOT_THREAD, Thread.currentThread().getId());
+        buffer.put(slot + SLOT_LEVEL, (byte) level.ordinal());
+        buffer.putInt(slot + SLOT_LOGGER, id(loggerName));
+
+        // once a field does not fit the position is negative and no further fields are written or counted
+        final int end = slot + SLOT_SIZE;
+        int position = slot + SLOT_FIELDS;
+        int count = 0;
+        int flags = 0;
+        if (t != null) {
+            flags |= FLAG_THROWN;
+            position = writeString(buffer, position, end, t.getClass().getName());
+            if (position >= 0) {
+                count++;
+            }
+            position = writeString(buffer, position, end, t.getMessage());
+            if (position >= 0) {
+                count++;
+            }
+        }
+        Object unwrapped = message;
+        if (message instanceof StackDeduplicator.Reference) {
+            final StackDeduplicator.Reference reference = (StackDeduplicator.Reference) message;
+            flags |= FLAG_STACK;
+            position = writeString(buffer, position, end, reference.getId());
+            if (position >= 0) {
+                count++;
+            }
+            position = writePrimitive(buffer, position, end, PrimitiveMessage.LONG, reference.getOccurrence());
+            if (position >= 0) {
+                count++;
+            }
+            unwrapped = reference.getMessage();
+        }
+        if (unwrapped instanceof DeferredMessage) {
+            final DeferredMessage deferred = (DeferredMessage) unwrapped;
+            // the markers of a fluent event are few, so the prefixed pattern is kept in the dictionary
+            final String prefix = deferred.getPrefix();
+            final String format = prefix == null ? deferred.getFormat() : prefix + deferred.getFormat();
+            final int pattern = id(format);
+            buffer.putInt(slot + SLOT_PATTERN, pattern);
+            if (pattern == NO_ID) {
+                position = writeString(buffer, position, end, format);
+                if (position >= 0) {
+                    count++;
+                }
+            }
+            final PrimitiveMessage primitive = deferred instanceof PrimitiveMessage ? (PrimitiveMessage) deferred
+                    : null;
+            for (int i = 0; i < deferred.getCount() && position >= 0; i++) {
+                if (primitive == null) {
+                    position = writeObject(buffer, position, end, deferred.getArgument(i));
+                } else {
+                    position = writePrimitive(buffer, position, end, primitive.getKind(i), primitive.getValue(i));
+                }
+                if (position >= 0) {
+                    count++;
+                }
+            }
+        } else {
+            buffer.putInt(slot + SLOT_PATTERN, NO_ID);
+            position = writeString(buffer, position, end, unwrapped == null ? null : unwrapped.toString());
+            if (position >= 0) {
+                count++;
+            }
+        }
+        if (position < 0 || position > end) {
+            flags |= FLAG_TRUNCATED;
+        }
+        buffer.put(slot + SLOT_FIELD_COUNT, (byte) Math.min(count, 255));
+        buffer.put(slot + SLOT_FLAGS, (byte) flags);
+        STAMP.setRelease(buffer, slot + SLOT_STAMP, (sequence + 1L) << 1);
+    }
+
+    /**
+     * Returns the offset of the string in the dictionary, writing the string to the dictionary if it has not already
+     * been written.
+     */
+    private int id(final String text) {
+        final Integer id = ids.get(text);
+        if (id != null) {
+            return id;
+        }
+        if (dictionaryFull) {
+            return NO_ID;
+        }
+        synchronized (ids) {
+            final Integer existing = ids.get(text);
+            if (existing != null) {
+                return existing;
+            }
+            final int length = Math.min(text.length(), MAX_DICTIONARY_TEXT);
+            final int offset = dictionaryPosition;
+            if (offset + 2 + (length << 1) > DICTIONARY_SIZE) {
+                dictionaryFull = true;
+                return NO_ID;
+            }
+            int position = HEADER_SIZE + offset;
+            buffer.putShort(position, (short) length);
+            position += 2;
+            for (int i = 0; i < length; i++) {
+                buffer.putChar(position, text.charAt(i));
+                position += 2;
+            }
+            dictionaryPosition = offset + 2 + (length << 1);
+            ids.put(text, offset);
+            return offset;
+        }
+    }
+
+    private int writeObject(final ByteBuffer buffer, final int position, final int end, final Object value) {
+        if (value == null || value instanceof String) {
+            return writeString(buffer, position, end, (String) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return writePrimitive(buffer, position, end, PrimitiveMessage.INT, ((Number) value).intValue());
+        } else if (value instanceof Long) {
+            return writePrimitive(buffer, position, end, PrimitiveMessage.LONG, (Long) value);
+        } else if (value instanceof Double) {
+            return writePrimitive(buffer, position, end, PrimitiveMessage.DOUBLE,
+                    PrimitiveMessage.encode((Double) value));
+        } else if (value instanceof Float) {
+            return writePrimitive(buffer, position, end, PrimitiveMessage.FLOAT,
+                    PrimitiveMessage.encode((Float) value));
+        } else if (value instanceof Character) {
+            return writePrimitive(buffer, position, end, PrimitiveMessage.CHAR,
+                    PrimitiveMessage.encode((Character) value));
+        } else if (value instanceof Boolean) {
+            return writePrimitive(buffer, position, end, PrimitiveMessage.BOOLEAN,
+                    PrimitiveMessage.encode((Boolean) value));
+        } else if (value instanceof Enum) {
+            return writeString(buffer, position, end, ((Enum<?>) value).name());
+        }
+        // toString() may be slow, allocate or fail, so only the type is written
+        if (position < 0 || position + 5 > end) {
+            return -1;
+        }
+        buffer.put(position, TYPE);
+        buffer.putInt(position + 1, id(value.getClass().getName()));
+        return position + 5;
+    }
+
+    /**
+     * Writes a primitive encoded by {@link PrimitiveMessage}.
+     *
+     * @return the position after the field or {@code -1} if the field does not fit or the position is negative
+     */
+    private static int writePrimitive(final ByteBuffer buffer, final int position, final int end, final int kind,
+            final long value) {
+        if (position < 0) {
+            return -1;
+        }
+        switch (kind) {
+            case PrimitiveMessage.INT:
+                if (position + 5 > end) {
+                    return -1;
+                }
+                buffer.put(position, INT);
+                buffer.putInt(position + 1, (int) value);
+                return position + 5;
+            case PrimitiveMessage.FLOAT:
+                if (position + 5 > end) {
+                    return -1;
+                }
+                buffer.put(position, FLOAT);
+                buffer.putInt(position + 1, (int) value);
+                return position + 5;
+            case PrimitiveMessage.BOOLEAN:
+                if (position + 2 > end) {
+                    return -1;
+                }
+                buffer.put(position, BOOLEAN);
+                buffer.put(position + 1, (byte) value);
+                return position + 2;
+            case PrimitiveMessage.CHAR:
+                if (position + 3 > end) {
+                    return -1;
+                }
+                buffer.put(position, CHAR);
+                buffer.putChar(position + 1, (char) value);
+                return position + 3;
+            default:
+                if (position + 9 > end) {
+                    return -1;
+                }
+                buffer.put(position, kind == PrimitiveMessage.LONG ? LONG : DOUBLE);
+                buffer.putLong(position + 1, value);
+                return position + 9;
+        }
+    }
+
+    /**
+     * Writes a string, truncated to the space left in the slot.
+     *
+     * @return the position after the field, one more than the end of the slot if the string was truncated, or
+     *         {@code -1} if the field does not fit or the position is negative
+     */
+    private static int writeString(final ByteBuffer buffer, final int position, final int end, final String value) {
+        if (position < 0 || position > end - 3 || (value == null && position > end - 1)) {
+            return -1;
+        }
+        if (value == null) {
+            buffer.put(position, NULL);
+            return position + 1;
+        }
+        final int length = Math.min(value.length(), (end - position - 3) >> 1);
+        buffer.put(position, STRING);
+        buffer.putShort(position + 1, (short) length);
+        int index = position + 3;
+        for (int i = 0; i < length; i++) {
+            buffer.putChar(index, value.charAt(i));
+            index += 2;
+        }
+        return length < value.length() ? end + 1 : index;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger.Level;
+
+/**
+ * Turns a file written with the {@value BlackBox#FILE_PROPERTY} system property back into text, one line for each
+ * event from the oldest to the most recent.
+ *
+ * <pre>
+ * java -cp slf4j-jboss-logging.jar:slf4j-api.jar:jboss-logging.jar org.jboss.slf4j.BlackBoxDecoder blackbox.bin
+ * </pre>
+ * <p>
+ * A line holds the time, level, thread ID, logger and the formatted message, followed by the type and message of the
+ * throwable if the event had one. Arguments which were not strings, enums or primitives are shown as their type, for
+ * example {@code <java.util.ArrayList>}. Events which were being written when the process ended are skipped.
+ * </p>
+ */
+public final class BlackBoxDecoder {
+    private static final Level[] LEVELS = Level.values();
+
+    private final ByteBuffer buffer;
+    private final Map<Integer, String> dictionary = new HashMap<>();
+
+    private BlackBoxDecoder(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Decodes the files given as arguments to the standard output.
+     *
+     * @param args the paths of the files
+     */
+    public static void main(final String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: " + BlackBoxDecoder.class.getName() + " file...");
+            System.exit(1);
+        }
+        final PrintStream out = System.out;
+        for (String arg : args) {
+            try {
+                for (String line : decode(Path.of(arg))) {
+                    out.println(line);
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to decode " + arg + ": " + e.getMessage());
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Decodes a file.
+     *
+     * @param file the file
+     *
+     * @return the events as text, from the oldest to the most recent
+     *
+     * @throws IOException if the file cannot be read or is not a black box file
+     */
+    public static List<String> decode(final Path file) throws IOException {
+        final ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < BlackBox.HEADER_SIZE) {
+                throw new IOException("The file is not a black box file");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+        if (buffer.getLong(0) != BlackBox.MAGIC) {
+            throw new IOException("The file is not a black box file");
+        }
+        if (buffer.getInt(BlackBox.HEADER_VERSION) != BlackBox.VERSION) {
+            throw new IOException("Version " + buffer.getInt(BlackBox.HEADER_VERSION) + " is not supported");
+        }
+        return new BlackBoxDecoder(buffer).decode();
+    }
+
+    private List<String> decode() throws IOException {
+        final int slotCount = buffer.getInt(BlackBox.HEADER_SLOT_COUNT);
+        final int slots = BlackBox.HEADER_SIZE + buffer.getInt(BlackBox.HEADER_DICTIONARY_SIZE);
+        if (slots + (long) slotCount * BlackBox.SLOT_SIZE > buffer.capacity()) {
+            throw new IOException("The file has been truncated");
+        }
+        // the stamps increase with each event, order the written slots by them and skip those still being written
+        final List<long[]> written = new ArrayList<>();
+        for (int i = 0; i < slotCount; i++) {
+            final int slot = slots + i * BlackBox.SLOT_SIZE;
+            final long stamp = buffer.getLong(slot + BlackBox.SLOT_STAMP);
+            if (stamp != 0L && (stamp & 1L) == 0L) {
+                written.add(new long[] { stamp, slot });
+            }
+        }
+        written.sort((a, b) -> Long.compare(a[0], b[0]));
+        final List<String> lines = new ArrayList<>(written.size());
+        for (long[] entry : written) {
+            lines.add(decodeSlot((int) entry[1]));
+        }
+        return lines;
+    }
+
+    private String decodeSlot(final int slot) {
+        final int level = buffer.get(slot + BlackBox.SLOT_LEVEL);
+        final int count = buffer.get(slot + BlackBox.SLOT_FIELD_COUNT) & 0xff;
+        final int flags = buffer.get(slot + BlackBox.SLOT_FLAGS);
+        final Object[] fields = new Object[count];
+        int position = slot + BlackBox.SLOT_FIELDS;
+        for (int i = 0; i < count; i++) {
+            position = readField(position, fields, i);
+        }
+        int index = 0;
+        String thrown = null;
+        if ((flags & BlackBox.FLAG_THROWN) != 0) {
+            thrown = String.valueOf(index < count ? fields[index++] : null);
+            if (index < count && fields[index] != null) {
+                thrown += ": " + fields[index];
+            }
+            index++;
+        }
+        String stack = null;
+        long occurrence = 1L;
+        if ((flags & BlackBox.FLAG_STACK) != 0) {
+            stack = String.valueOf(index < count ? fields[index] : null);
+            if (index + 1 < count && fields[index + 1] instanceof Long) {
+                occurrence = (Long) fields[index + 1];
+            }
+            index += 2;
+        }
+        final int patternId = buffer.getInt(slot + BlackBox.SLOT_PATTERN);
+        final Object pattern;
+        if (patternId == BlackBox.NO_ID) {
+            pattern = index < count ? fields[index++] : null;
+        } else {
+            pattern = lookup(patternId);
+        }
+        String message = String.valueOf(pattern);
+        if (pattern != null && index < count) {
+            final Object[] arguments = new Object[count - index];
+            System.arraycopy(fields, index, arguments, 0, arguments.length);
+            message = JBossMessageFormatter.format(message, arguments, arguments.length);
+        }
+        if (stack != null) {
+            message = StackDeduplicator.Reference.format(pattern == null ? null : message, stack, occurrence);
+        }
+
+        final StringBuilder line = new StringBuilder();
+        line.append(Instant.ofEpochMilli(buffer.getLong(slot + BlackBox.SLOT_TIME)))
+                .append(' ')
+                .append(level >= 0 && level < LEVELS.length ? LEVELS[level].name() : Integer.toString(level))
+                .append(" [")
+                .append(buffer.getLong(slot + BlackBox.SLOT_THREAD))
+                .append("] ")
+                .append(lookup(buffer.getInt(slot + BlackBox.SLOT_LOGGER)))
+                .append(" - ")
+                .append(message);
+        if (thrown != null) {
+            line.append(" | ").append(thrown);
+        }
+        if ((flags & BlackBox.FLAG_TRUNCATED) != 0) {
+            line.append(" [truncated]");
+        }
+        return line.toString();
+    }
+
+    private int readField(final int position, final Object[] fields, final int index) {
+        final byte type = buffer.get(position);
+        switch (type) {
+            case BlackBox.STRING:
+                final int length = buffer.getShort(position + 1);
+                fields[index] = readChars(position + 3, length);
+                return position + 3 + (length << 1);
+            case BlackBox.INT:
+                fields[index] = buffer.getInt(position + 1);
+                return position + 5;
+            case BlackBox.LONG:
+                fields[index] = buffer.getLong(position + 1);
+                return position + 9;
+            case BlackBox.DOUBLE:
+                fields[index] = Double.longBitsToDouble(buffer.getLong(position + 1));
+                return position + 9;
+            case BlackBox.BOOLEAN:
+                fields[index] = buffer.get(position + 1) != 0;
+                return position + 2;
+            case BlackBox.CHAR:
+                fields[index] = buffer.getChar(position + 1);
+                return position + 3;
+            case BlackBox.FLOAT:
+                fields[index] = Float.intBitsToFloat(buffer.getInt(position + 1));
+                return position + 5;
+            case BlackBox.TYPE:
+                fields[index] = "<" + lookup(buffer.getInt(position + 1)) + ">";
+                return position + 5;
+            default:
+                fields[index] = null;
+                return position + 1;
+        }
+    }
+
+    private String lookup(final int id) {
+        if (id == BlackBox.NO_ID) {
+            return "?";
+        }
+        return dictionary.computeIfAbsent(id, offset -> {
+            final int position = BlackBox.HEADER_SIZE + offset;
+            return readChars(position + 2, buffer.getShort(position));
+        });
+    }
+
+    private String readChars(final int position, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar(position + (i << 1));
+        }
+        return new String(chars);
+    }
+}
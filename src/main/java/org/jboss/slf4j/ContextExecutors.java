@@ -0,0 +1,433 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+
+/**
+ * Wraps executors and tasks so tasks run with the MDC context of the thread which submitted them.
+ * <p>
+ * The context is captured once when a task is submitted. When the task runs the context is installed on the worker,
+ * unless the worker already has an identical context, and the previous context of the worker is restored afterward.
+ * With the {@link PersistentMDCAdapter} and the {@link ScopedMDCAdapter} the captured context is a reference to an
+ * immutable context, so installing and restoring it replaces a single reference. With the {@link JBossMDCAdapter} the
+ * context is copied when captured and the context of the worker is copied when the task starts, so it can be restored.
+ * Installing and restoring a context only writes the entries which differ from the context of the worker. With the
+ * JBoss Log Manager, whose MDC map can only be read as a copy, the context of the worker is copied once more when it is
+ * restored.
+ * </p>
+ * <p>
+ * The futures returned from {@link #supplyAsync(Supplier, Executor)} and {@link #runAsync(Runnable, Executor)} run
+ * dependent stages which do not specify an executor on the same executor, with the context of the thread which
+ * completed the previous stage. That is the captured context unless the future was completed by other means.
+ * </p>
+ */
+public final class ContextExecutors {
+
+    private ContextExecutors() {
+    }
+
+    /**
+     * Wraps the executor so tasks run with the context of the thread which submitted them.
+     *
+     * @param executor the executor to wrap
+     *
+     * @return the wrapped executor
+     */
+    public static Executor wrap(final Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        if (executor instanceof ContextExecutor || executor instanceof ContextExecutorService) {
+            return executor;
+        }
+        return new ContextExecutor(executor);
+    }
+
+    /**
+     * Wraps the executor service so tasks run with the context of the thread which submitted them.
+     *
+     * @param executor the executor service to wrap
+     *
+     * @return the wrapped executor service
+     */
+    public static ExecutorService wrap(final ExecutorService executor) {
+        Objects.requireNonNull(executor, "executor");
+        if (executor instanceof ContextExecutorService) {
+            return executor;
+        }
+        return new ContextExecutorService<>(executor);
+    }
+
+    /**
+     * Wraps the scheduled executor service so tasks run with the context of the thread which submitted them.
+     *
+     * @param executor the scheduled executor service to wrap
+     *
+     * @return the wrapped scheduled executor service
+     */
+    public static ScheduledExecutorService wrap(final ScheduledExecutorService executor) {
+        Objects.requireNonNull(executor, "executor");
+        if (executor instanceof ContextScheduledExecutorService) {
+            return executor;
+        }
+        return new ContextScheduledExecutorService(executor);
+    }
+
+    /**
+     * Wraps the task so it runs with the context of the current thread.
+     *
+     * @param task the task to wrap
+     *
+     * @return the wrapped task
+     */
+    public static Runnable wrap(final Runnable task) {
+        return new ContextRunnable(CapturedContext.capture(), Objects.requireNonNull(task, "task"));
+    }
+
+    /**
+     * Wraps the task so it is called with the context of the current thread.
+     *
+     * @param task the task to wrap
+     * @param <T>  the type of the result
+     *
+     * @return the wrapped task
+     */
+    public static <T> Callable<T> wrap(final Callable<T> task) {
+        return new ContextCallable<>(CapturedContext.capture(), Objects.requireNonNull(task, "task"));
+    }
+
+    /**
+     * Completes a future with the result of the supplier, which runs on the common pool with the context of the
+     * current thread.
+     *
+     * @param supplier the supplier of the result
+     * @param <T>      the type of the result
+     *
+     * @return the future
+     *
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier) {
+        return supplyAsync(supplier, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Completes a future with the result of the supplier, which runs on the executor with the context of the current
+     * thread.
+     *
+     * @param supplier the supplier of the result
+     * @param executor the executor to run the supplier and dependent stages on
+     * @param <T>      the type of the result
+     *
+     * @return the future
+     *
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier, final Executor executor) {
+        Objects.requireNonNull(supplier, "supplier");
+        final ContextExecutor contextExecutor = new ContextExecutor(Objects.requireNonNull(executor, "executor"));
+        return new ContextCompletableFuture<T>(contextExecutor).completeAsync(supplier);
+    }
+
+    /**
+     * Runs the task on the common pool with the context of the current thread.
+     *
+     * @param task the task to run
+     *
+     * @return the future
+     *
+     * @see CompletableFuture#runAsync(Runnable)
+     */
+    public static CompletableFuture<Void> runAsync(final Runnable task) {
+        return runAsync(task, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the task on the executor with the context of the current thread.
+     *
+     * @param task     the task to run
+     * @param executor the executor to run the task and dependent stages on
+     *
+     * @return the future
+     *
+     * @see CompletableFuture#runAsync(Runnable, Executor)
+     */
+    public static CompletableFuture<Void> runAsync(final Runnable task, final Executor executor) {
+        Objects.requireNonNull(task, "task");
+        return supplyAsync(() -> {
+            task.run();
+            return null;
+        }, executor);
+    }
+
+    /**
+     * A context captured from the current thread along with the adapter which captured it.
+     */
+    private static final class CapturedContext {
+        private final MDCAdapter adapter;
+        private final Object context;
+
+        private CapturedContext(final MDCAdapter adapter, final Object context) {
+            this.adapter = adapter;
+            this.context = context;
+        }
+
+        static CapturedContext capture() {
+            final MDCAdapter adapter = MDC.getMDCAdapter();
+            if (adapter instanceof JBossMDCAdapter) {
+                return new CapturedContext(adapter, ((JBossMDCAdapter) adapter).capture());
+            }
+            return new CapturedContext(adapter, adapter.getCopyOfContextMap());
+        }
+
+        Object install() {
+            if (adapter instanceof JBossMDCAdapter) {
+                return ((JBossMDCAdapter) adapter).install(context);
+            }
+            final Map<String, String> previous = adapter.getCopyOfContextMap();
+            if (!Objects.equals(previous, context)) {
+                set(context);
+            }
+            return previous;
+        }
+
+        void restore(final Object previous) {
+            if (adapter instanceof JBossMDCAdapter) {
+                ((JBossMDCAdapter) adapter).restore(previous);
+            } else {
+                set(previous);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void set(final Object context) {
+            if (context == null) {
+                adapter.clear();
+            } else {
+                adapter.setContextMap((Map<String, String>) context);
+            }
+        }
+    }
+
+    private static final class ContextRunnable implements Runnable {
+        private final CapturedContext snapshot;
+        private final Runnable task;
+
+        ContextRunnable(final CapturedContext snapshot, final Runnable task) {
+            this.snapshot = snapshot;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            final Object previous = snapshot.install();
+            try {
+                task.run();
+            } finally {
+                snapshot.restore(previous);
+            }
+        }
+    }
+
+    private static final class ContextCallable<T> implements Callable<T> {
+        private final CapturedContext snapshot;
+        private final Callable<T> task;
+
+        ContextCallable(final CapturedContext snapshot, final Callable<T> task) {
+            this.snapshot = snapshot;
+            this.task = task;
+        }
+
+        @Override
+        public T call() throws Exception {
+            final Object previous = snapshot.install();
+            try {
+                return task.call();
+            } finally {
+                snapshot.restore(previous);
+            }
+        }
+    }
+
+    private static final class ContextExecutor implements Executor {
+        private final Executor delegate;
+
+        ContextExecutor(final Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(wrap(command));
+        }
+    }
+
+    private static class ContextExecutorService<E extends ExecutorService> implements ExecutorService {
+        final E delegate;
+
+        ContextExecutorService(final E delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate.execute(wrap(command));
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+        @Override
+        public <T> Future<T> submit(final Callable<T> task) {
+            return delegate.submit(wrap(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(final Runnable task, final T result) {
+            return delegate.submit(wrap(task), result);
+        }
+
+        @Override
+        public Future<?> submit(final Runnable task) {
+            return delegate.submit(wrap(task));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks)
+                throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(final Collection<? extends Callable<T>> tasks, final long timeout,
+                final TimeUnit unit) throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public <T> T invokeAny(final Collection<? extends Callable<T>> tasks)
+                throws InterruptedException, ExecutionException {
+            return delegate.invokeAny(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> T invokeAny(final Collection<? extends Callable<T>> tasks, final long timeout, final TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+        }
+
+        private static <T> List<Callable<T>> wrapAll(final Collection<? extends Callable<T>> tasks) {
+            // the tasks share a single captured context
+            final CapturedContext snapshot = CapturedContext.capture();
+            final List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                wrapped.add(new ContextCallable<>(snapshot, Objects.requireNonNull(task, "task")));
+            }
+            return wrapped;
+        }
+    }
+
+    private static final class ContextScheduledExecutorService extends ContextExecutorService<ScheduledExecutorService>
+            implements ScheduledExecutorService {
+
+        ContextScheduledExecutorService(final ScheduledExecutorService delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+            return delegate.schedule(wrap(command), delay, unit);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(final Callable<V> callable, final long delay, final TimeUnit unit) {
+            return delegate.schedule(wrap(callable), delay, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command, final long initialDelay,
+                final long period, final TimeUnit unit) {
+            return delegate.scheduleAtFixedRate(wrap(command), initialDelay, period, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command, final long initialDelay,
+                final long delay, final TimeUnit unit) {
+            return delegate.scheduleWithFixedDelay(wrap(command), initialDelay, delay, unit);
+        }
+    }
+
+    private static final class ContextCompletableFuture<T> extends CompletableFuture<T> {
+        private final ContextExecutor executor;
+
+        ContextCompletableFuture(final ContextExecutor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public Executor defaultExecutor() {
+            return executor;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new ContextCompletableFuture<>(executor);
+        }
+    }
+}
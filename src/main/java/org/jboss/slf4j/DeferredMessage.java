@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+/**
+ * A message which carries a SLF4J {@code {}} pattern and its arguments. The pattern is only formatted the first time
+ * the string form of the message is requested.
+ * <p>
+ * JBoss Logging converts the message to a string only after the log manager has accepted the level, so a record which
+ * is rejected is never formatted.
+ * </p>
+ */
+class DeferredMessage {
+    private final String format;
+    private final Object arg1;
+    private final Object arg2;
+    private final Object[] arguments;
+    private final int count;
+    private String formatted;
+
+    DeferredMessage(final String format, final Object arg1, final Object arg2, final Object[] arguments,
+            final int count) {
+        this.format = format;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.arguments = arguments;
+        this.count = count;
+    }
+
+    /**
+     * Creates a message for the pattern and a single argument.
+     *
+     * @param format the SLF4J pattern, may be {@code null}
+     * @param arg    the argument
+     *
+     * @return the message to log
+     */
+    static Object of(final String format, final Object arg) {
+        if (format == null) {
+            return null;
+        }
+        return new DeferredMessage(format, arg, null, null, 1);
+    }
+
+    /**
+     * Creates a message for the pattern and two arguments.
+     *
+     * @param format the SLF4J pattern, may be {@code null}
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     *
+     * @return the message to log
+     */
+    static Object of(final String format, final Object arg1, final Object arg2) {
+        if (format == null) {
+            return null;
+        }
+        return new DeferredMessage(format, arg1, arg2, null, 2);
+    }
+
+    /**
+     * Creates a message for the pattern and the first {@code count} arguments. If there is nothing to format the
+     * pattern itself is returned.
+     *
+     * @param format    the SLF4J pattern, may be {@code null}
+     * @param arguments the arguments, may be {@code null}
+     * @param count     the number of arguments to format, which excludes a trailing throwable
+     *
+     * @return the message to log
+     */
+    static Object of(final String format, final Object[] arguments, final int count) {
+        if (format == null || arguments == null || count == 0) {
+            return format;
+        }
+        return new DeferredMessage(format, null, null, arguments, count);
+    }
+
+    /**
+     * Returns the SLF4J pattern of the message.
+     *
+     * @return the pattern
+     */
+    String getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the text which precedes the formatted pattern in the message.
+     *
+     * @return the prefix or {@code null} if the message starts with the pattern
+     */
+    String getPrefix() {
+        return null;
+    }
+
+    /**
+     * Returns the number of arguments formatted into the message.
+     *
+     * @return the number of arguments
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns an argument of the message.
+     *
+     * @param index the index of the argument, less than {@link #getCount()}
+     *
+     * @return the argument
+     */
+    Object getArgument(final int index) {
+        if (arguments != null) {
+            return arguments[index];
+        }
+        return index == 0 ? arg1 : arg2;
+    }
+
+    @Override
+    public String toString() {
+        // racy single-check, at worst the message is formatted more than once
+        String result = formatted;
+        if (result == null) {
+            result = format();
+            formatted = result;
+        }
+        return result;
+    }
+
+    /**
+     * Formats the message.
+     *
+     * @return the formatted message
+     */
+    String format() {
+        if (arguments != null) {
+            return JBossMessageFormatter.format(format, arguments, count);
+        } else if (count == 1) {
+            return JBossMessageFormatter.format(format, arg1);
+        }
+        return JBossMessageFormatter.format(format, arg1, arg2);
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.jboss.logging.Logger.Level;
+import org.slf4j.MDC;
+
+/**
+ * Holds the less severe events of a scope and logs them only if an error is logged in the same scope. Enabled with the
+ * {@value #KEY_PROPERTY} system property, which names the MDC key whose value identifies the scope, and the
+ * {@value #LEVELS_PROPERTY} system property, a comma separated list of {@code CATEGORY=LEVEL} pairs. Events of a
+ * logger in the category which are less severe than the level are buffered, the longest category which matches the
+ * name of the logger wins.
+ * <p>
+ * A scope lasts while the key has the same value in the MDC of the thread. The key is read through the SLF4J
+ * {@link MDC}, so any MDC adapter may be used. Within a scope the buffered levels are reported as enabled and the
+ * events are kept, unformatted, in a ring buffer of {@value #SIZE_PROPERTY} events for the thread, the oldest events
+ * are discarded once it is full. When an {@code ERROR} or {@code FATAL} event is logged by any logger in the scope the
+ * buffered events are logged in order ahead of it. The events of a scope which ends without an error are discarded
+ * when the next event is checked. Outside a scope the buffered levels are disabled.
+ * </p>
+ * <p>
+ * The log manager still filters the records, so its level must allow the buffered levels. The arguments of a buffered
+ * event are referenced until the event is logged or discarded. The caller and the MDC of a buffered event are those of
+ * the error which flushes it, except for the key/value pairs of a fluent event which are kept with the event and placed
+ * in the MDC again while it is logged. Sampling and rate limiting do not apply to buffered events.
+ * </p>
+ */
+final class ErrorBuffer {
+    static final String KEY_PROPERTY = "org.jboss.slf4j.error.buffer.key";
+    static final String LEVELS_PROPERTY = "org.jboss.slf4j.error.buffer.levels";
+    static final String SIZE_PROPERTY = "org.jboss.slf4j.error.buffer.size";
+
+    /**
+     * The threshold of a logger whose events are not buffered.
+     */
+    static final int NONE = Level.values().length;
+
+    private static final String KEY = SecurityActions.getSystemProperty(KEY_PROPERTY);
+    private static final String[] CATEGORIES;
+    private static final Level[] LEVELS;
+    private static final int SIZE = Math.max(1, SecurityActions.getIntSystemProperty(SIZE_PROPERTY, 256));
+    private static final ThreadLocal<Events> SCOPE = new ThreadLocal<>();
+
+    /**
+     * Indicates whether the scope key and any level have been configured.
+     */
+    static final boolean ENABLED;
+
+    static {
+        final List<String> categories = new ArrayList<>();
+        final List<Level> levels = new ArrayList<>();
+        final String value = SecurityActions.getSystemProperty(LEVELS_PROPERTY);
+        if (value != null) {
+            for (String rule : value.split(",")) {
+                if (rule.isBlank()) {
+                    continue;
+                }
+                final int index = rule.indexOf('=');
+                final String category = index < 0 ? "" : rule.substring(0, index).trim();
+                Level level = null;
+                if (index >= 0) {
+                    try {
+                        level = Level.valueOf(rule.substring(index + 1).trim().toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException ignore) {
+                        // reported below
+                    }
+                }
+                if (category.isEmpty() || level == null) {
+                    InternalReporter
+                            .warn("Ignoring invalid buffer level \"" + rule.trim() + "\" in " + LEVELS_PROPERTY);
+                } else {
+                    categories.add(category);
+                    levels.add(level);
+                }
+            }
+        }
+        // sort by the length of the category so the longest match is found last
+        final Integer[] order = new Integer[categories.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> categories.get(i).length()));
+        CATEGORIES = new String[order.length];
+        LEVELS = new Level[order.length];
+        for (int i = 0; i < order.length; i++) {
+            CATEGORIES[i] = categories.get(order[i]);
+            LEVELS[i] = levels.get(order[i]);
+        }
+        if (KEY == null && order.length > 0) {
+            InternalReporter.warn("Events are not buffered as " + KEY_PROPERTY + " has not been set");
+        }
+        ENABLED = KEY != null && order.length > 0;
+    }
+
+    private ErrorBuffer() {
+    }
+
+    /**
+     * Resolves the threshold of a logger.
+     *
+     * @param name the name of the logger
+     *
+     * @return the ordinal of the least severe level which is not buffered, events of levels with a greater ordinal are
+     *         buffered, or {@link #NONE} if the events of the logger are not buffered
+     */
+    static int threshold(final String name) {
+        int threshold = NONE;
+        if (ENABLED) {
+            for (int i = 0; i < CATEGORIES.length; i++) {
+                final String category = CATEGORIES[i];
+                if (name.equals(category) || (name.startsWith(category) && name.charAt(category.length()) == '.')) {
+                    threshold = LEVELS[i].ordinal();
+                }
+            }
+        }
+        return threshold;
+    }
+
+    /**
+     * Checks whether the current thread is in a scope.
+     *
+     * @return {@code true} if events are buffered
+     */
+    static boolean isActive() {
+        return current() != null;
+    }
+
+    /**
+     * Buffers an event if the current thread is in a scope.
+     *
+     * @return {@code true} if the event was buffered, {@code false} if it should be discarded
+     */
+    static boolean capture(final JBossLoggerAdapter adapter, final Level level, final Object message,
+            final Throwable t) {
+        final Events events = current();
+        if (events == null) {
+            return false;
+        }
+        events.add(adapter, level, message, t);
+        return true;
+    }
+
+    /**
+     * Sets the key/value pairs of the fluent event the current thread is logging, which are kept with the event if it
+     * is buffered.
+     *
+     * @param keyValues the keys and values in alternating order, a {@code null} key is skipped, or {@code null} once
+     *                  the event has been logged
+     */
+    static void keyValues(final String[] keyValues) {
+        final Events events = current();
+        if (events != null) {
+            events.keyValues = keyValues;
+        }
+    }
+
+    /**
+     * Removes the events buffered in the scope of the current thread, invoked before an error is logged. The events
+     * are logged by the adapter so that the caller resolved for them is the caller of the error.
+     *
+     * @return the events in the order they were buffered or {@code null} if there are none
+     */
+    static Events drain() {
+        final Events events = current();
+        if (events == null || events.count == 0) {
+            return null;
+        }
+        // take the events first so events logged while they are logged are buffered again rather than lost
+        return events.drain();
+    }
+
+    private static Events current() {
+        final String value = MDC.get(KEY);
+        Events events = SCOPE.get();
+        if (events == null) {
+            if (value == null) {
+                return null;
+            }
+            events = new Events();
+            SCOPE.set(events);
+        }
+        if (!Objects.equals(events.scope, value)) {
+            // the scope has changed since the last event, the events of the previous scope are discarded
+            events.clear();
+            events.scope = value;
+        }
+        return value == null ? null : events;
+    }
+
+    /**
+     * The events buffered for a thread, the arrays are allocated when the first event is added.
+     */
+    static final class Events {
+        private String scope;
+        private JBossLoggerAdapter[] adapters;
+        private Level[] levels;
+        private Object[] messages;
+        private Throwable[] thrown;
+        private String[][] eventKeyValues;
+        // the key/value pairs of the fluent event being logged
+        private String[] keyValues;
+        private int head;
+        private int count;
+        private long discarded;
+
+        /**
+         * Returns the number of events.
+         *
+         * @return the number of events
+         */
+        int size() {
+            return count;
+        }
+
+        /**
+         * Returns the number of older events which were discarded as the buffer was full.
+         *
+         * @return the number of events discarded
+         */
+        long discarded() {
+            return discarded;
+        }
+
+        JBossLoggerAdapter adapter(final int index) {
+            return adapters[(head + index) % SIZE];
+        }
+
+        Level level(final int index) {
+            return levels[(head + index) % SIZE];
+        }
+
+        Object message(final int index) {
+            return messages[(head + index) % SIZE];
+        }
+
+        Throwable thrown(final int index) {
+            return thrown[(head + index) % SIZE];
+        }
+
+        /**
+         * Returns the key/value pairs of a fluent event.
+         *
+         * @return the keys and values in alternating order or {@code null} if the event has none
+         */
+        String[] keyValues(final int index) {
+            return eventKeyValues[(head + index) % SIZE];
+        }
+
+        private void add(final JBossLoggerAdapter adapter, final Level level, final Object message,
+                final Throwable t) {
+            if (adapters == null) {
+                adapters = new JBossLoggerAdapter[SIZE];
+                levels = new Level[SIZE];
+                messages = new Object[SIZE];
+                thrown = new Throwable[SIZE];
+                eventKeyValues = new String[SIZE][];
+            }
+            final int index;
+            if (count == SIZE) {
+                // overwrite the oldest event
+                index = head;
+                head = (head + 1) % SIZE;
+                discarded++;
+            } else {
+                index = (head + count++) % SIZE;
+            }
+            adapters[index] = adapter;
+            levels[index] = level;
+            messages[index] = message;
+            thrown[index] = t;
+            eventKeyValues[index] = keyValues;
+        }
+
+        private Events drain() {
+            final Events events = new Events();
+            events.adapters = adapters;
+            events.levels = levels;
+            events.messages = messages;
+            events.thrown = thrown;
+            events.eventKeyValues = eventKeyValues;
+            events.head = head;
+            events.count = count;
+            events.discarded = discarded;
+            // the arrays now belong to the drained events, new ones are allocated if more events are buffered
+            adapters = null;
+            levels = null;
+            messages = null;
+            thrown = null;
+            eventKeyValues = null;
+            head = 0;
+            count = 0;
+            discarded = 0L;
+            return events;
+        }
+
+        private void clear() {
+            if (count > 0) {
+                // only the references are released, the arrays are reused by the next scope
+                Arrays.fill(adapters, null);
+                Arrays.fill(levels, null);
+                Arrays.fill(messages, null);
+                Arrays.fill(thrown, null);
+                Arrays.fill(eventKeyValues, null);
+            }
+            head = 0;
+            count = 0;
+            discarded = 0L;
+        }
+    }
+}
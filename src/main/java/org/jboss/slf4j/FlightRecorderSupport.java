@@ -0,0 +1,240 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger.Level;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Frequency;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Emits JDK Flight Recorder events for logging activity when the {@value #ENABLED_PROPERTY} system property is set to
+ * {@code true}. The events are enabled and configured with the standard JFR settings, by default the
+ * {@value #LOG_EVENT} event records calls which take at least a millisecond and the {@value #RATE_EVENT} event records
+ * the rates of each level every second.
+ * <p>
+ * The JFR types are only loaded if the {@code jdk.jfr} module is present. Whether each event is enabled is tracked with
+ * a flag which is updated when a recording starts or stops, so while no recording has the events enabled an event
+ * costs a single volatile read.
+ * </p>
+ */
+final class FlightRecorderSupport {
+    static final String ENABLED_PROPERTY = "org.jboss.slf4j.jfr";
+    static final String LOG_EVENT = "org.jboss.slf4j.Log";
+    static final String RATE_EVENT = "org.jboss.slf4j.LogRate";
+
+    /**
+     * Indicates whether the events have been enabled and the {@code jdk.jfr} module is present.
+     */
+    static final boolean AVAILABLE;
+
+    private static final Level[] LEVELS = Level.values();
+    private static final LongAdder[] COUNTS = new LongAdder[LEVELS.length];
+    private static volatile boolean logEnabled;
+    private static volatile boolean rateEnabled;
+
+    static {
+        boolean available = false;
+        final String value = SecurityActions.getSystemProperty(ENABLED_PROPERTY);
+        if (Boolean.parseBoolean(value) && ModuleLayer.boot().findModule("jdk.jfr").isPresent()) {
+            try {
+                // registering a listener does not initialize the recorder
+                FlightRecorder.addListener(new Listener());
+                available = true;
+            } catch (SecurityException | LinkageError e) {
+                InternalReporter.error("Flight Recorder events are not available", e);
+            }
+        }
+        for (int i = 0; i < COUNTS.length; i++) {
+            COUNTS[i] = new LongAdder();
+        }
+        AVAILABLE = available;
+    }
+
+    private FlightRecorderSupport() {
+    }
+
+    /**
+     * Checks whether the per-call event is enabled by any recording.
+     *
+     * @return {@code true} if calls should be recorded
+     */
+    static boolean isLogEnabled() {
+        return logEnabled;
+    }
+
+    /**
+     * Counts an event for the rate event if it is enabled by any recording.
+     *
+     * @param level the level of the event
+     */
+    static void count(final Level level) {
+        if (rateEnabled) {
+            COUNTS[level.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts events for the rate event if it is enabled by any recording.
+     *
+     * @param level the level of the events
+     * @param count the number of events
+     */
+    static void count(final Level level, final int count) {
+        if (rateEnabled) {
+            COUNTS[level.ordinal()].add(count);
+        }
+    }
+
+    /**
+     * Begins timing a call.
+     *
+     * @return the event to pass to {@link #commit(Object, String, Level, long, long)}
+     */
+    static Object begin() {
+        final LogEvent event = new LogEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event of a call if it meets the threshold of the recordings.
+     *
+     * @param event         the event returned from {@link #begin()}
+     * @param loggerName    the name of the logger
+     * @param level         the level of the event
+     * @param formatNanos   the time taken to format the message
+     * @param delegateNanos the time taken by the log manager
+     */
+    static void commit(final Object event, final String loggerName, final Level level, final long formatNanos,
+            final long delegateNanos) {
+        final LogEvent logEvent = (LogEvent) event;
+        logEvent.end();
+        if (logEvent.shouldCommit()) {
+            logEvent.loggerName = loggerName;
+            logEvent.level = level.name();
+            logEvent.formatDuration = formatNanos;
+            logEvent.delegateDuration = delegateNanos;
+            logEvent.commit();
+        }
+    }
+
+    private static void update() {
+        logEnabled = EventType.getEventType(LogEvent.class).isEnabled();
+        rateEnabled = EventType.getEventType(LogRateEvent.class).isEnabled();
+    }
+
+    private static void emitRates() {
+        final LogRateEvent event = new LogRateEvent();
+        final long now = System.nanoTime();
+        final double seconds = Math.max(1L, now - RateState.last) / 1_000_000_000.0;
+        RateState.last = now;
+        event.trace = COUNTS[Level.TRACE.ordinal()].sumThenReset() / seconds;
+        event.debug = COUNTS[Level.DEBUG.ordinal()].sumThenReset() / seconds;
+        event.info = COUNTS[Level.INFO.ordinal()].sumThenReset() / seconds;
+        event.warn = COUNTS[Level.WARN.ordinal()].sumThenReset() / seconds;
+        event.error = (COUNTS[Level.ERROR.ordinal()].sumThenReset() + COUNTS[Level.FATAL.ordinal()].sumThenReset())
+                / seconds;
+        event.commit();
+    }
+
+    private static final class RateState {
+        // only accessed by the periodic task
+        static long last = System.nanoTime();
+    }
+
+    private static final class Listener implements FlightRecorderListener {
+        @Override
+        public void recorderInitialized(final FlightRecorder recorder) {
+            FlightRecorder.addPeriodicEvent(LogRateEvent.class, FlightRecorderSupport::emitRates);
+        }
+
+        @Override
+        public void recordingStateChanged(final Recording recording) {
+            update();
+        }
+    }
+
+    @Name(LOG_EVENT)
+    @Label("Log Call")
+    @Description("A call to the log manager made by the SLF4J binding")
+    @Category({ "SLF4J", "Logging" })
+    @Threshold("1 ms")
+    @StackTrace
+    static final class LogEvent extends Event {
+        @Label("Logger")
+        String loggerName;
+
+        @Label("Level")
+        String level;
+
+        @Label("Format Duration")
+        @Description("The time taken to format the message")
+        @Timespan
+        long formatDuration;
+
+        @Label("Delegate Duration")
+        @Description("The time taken by the log manager")
+        @Timespan
+        long delegateDuration;
+    }
+
+    @Name(RATE_EVENT)
+    @Label("Log Rate")
+    @Description("The number of events passed to the log manager per second for each level")
+    @Category({ "SLF4J", "Logging" })
+    @Period("1 s")
+    @StackTrace(false)
+    static final class LogRateEvent extends Event {
+        @Label("Trace")
+        @Frequency
+        double trace;
+
+        @Label("Debug")
+        @Frequency
+        double debug;
+
+        @Label("Info")
+        @Frequency
+        double info;
+
+        @Label("Warn")
+        @Frequency
+        double warn;
+
+        @Label("Error")
+        @Description("The rate of ERROR and FATAL events")
+        @Frequency
+        double error;
+    }
+}
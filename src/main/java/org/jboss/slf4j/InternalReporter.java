@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import org.slf4j.helpers.Reporter;
+import org.slf4j.helpers.Util;
+
+/**
+ * Reports problems of the binding itself the way SLF4J reports its own. The {@link Reporter} is used when it is
+ * available, SLF4J 1.7 only has the deprecated {@link Util#report(String)}.
+ */
+final class InternalReporter {
+    private static final boolean REPORTER_AVAILABLE = isReporterAvailable();
+
+    private InternalReporter() {
+    }
+
+    /**
+     * Reports a problem which the binding can continue from, such as an invalid configuration value.
+     *
+     * @param msg the message to report
+     */
+    static void warn(final String msg) {
+        if (REPORTER_AVAILABLE) {
+            Reporter.warn(msg);
+        } else {
+            report(msg, null);
+        }
+    }
+
+    /**
+     * Reports a failure.
+     *
+     * @param msg the message to report
+     * @param t   the cause of the failure
+     */
+    static void error(final String msg, final Throwable t) {
+        if (REPORTER_AVAILABLE) {
+            Reporter.error(msg, t);
+        } else {
+            report(msg, t);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void report(final String msg, final Throwable t) {
+        if (t == null) {
+            Util.report(msg);
+        } else {
+            Util.report(msg, t);
+        }
+    }
+
+    private static boolean isReporterAvailable() {
+        try {
+            Class.forName("org.slf4j.helpers.Reporter", false, Util.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -20,277 +20,2117 @@ package org.jboss.slf4j;
 import org.jboss.logging.Logger.Level;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
-import org.slf4j.helpers.FormattingTuple;
 import org.slf4j.helpers.MarkerIgnoringBase;
-import org.slf4j.helpers.MessageFormatter;
 import org.slf4j.spi.LocationAwareLogger;
+import org.slf4j.spi.LoggingEventBuilder;
 
 /**
  * A wrapper over {@link org.jboss.logging.Logger org.jboss.logging.Logger}
  * in conformance with the {@link Logger} interface.
  * <p/>
  * Adapted from the corresponding slf4j-log4j adapter.
+ * <p/>
+ * Every method which takes a {@link Marker} is overridden to check the {@linkplain MarkerLevels marker levels}.
+ * {@link MarkerIgnoringBase} only provides the name and serialization, it is kept as the SLF4J 2 base classes are not
+ * available with SLF4J 1.7.
  *
  * @author <a href="mailto:dimitris@jboss.org">Dimitris Andreadis</a>
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  * @version <tt>$Revision: 2784 $</tt>
  */
-public final class JBossLoggerAdapter extends MarkerIgnoringBase implements LocationAwareLogger {
+public final class JBossLoggerAdapter extends MarkerIgnoringBase implements LocationAwareLogger, PrimitiveLogger {
     private static final long serialVersionUID = -1855332334983449117L;
 
     final org.jboss.logging.Logger logger;
 
+    // the level cache generation in the upper bits and the number of enabled levels in the lower bits
+    private int levelState;
+
+    private final transient RateLimiter rateLimiter;
+    // the sampling rates indexed by the level ordinal, null if the logger is not sampled
+    private final transient int[] sampleRates;
+    // the ordinal above which events are buffered until an error is logged, ErrorBuffer.NONE if they are not buffered
+    private final transient int bufferThreshold;
+    private final transient LoggerMetrics metrics;
+
     private static final String LOGGER_FQCN = JBossLoggerAdapter.class.getName();
+    // indexed by the LocationAwareLogger level divided by ten
+    private static final Level[] LEVELS_BY_INT = {
+            Level.TRACE,
+            Level.DEBUG,
+            Level.INFO,
+            Level.WARN,
+            Level.ERROR,
+    };
 
     // package access so that only JBossLoggerFactory be able to create one.
     JBossLoggerAdapter(org.jboss.logging.Logger logger) {
         this.logger = logger;
         this.name = logger.getName();
+        this.rateLimiter = RateLimiter.create(this);
+        this.sampleRates = Sampler.rates(name);
+        this.bufferThreshold = ErrorBuffer.threshold(name);
+        this.metrics = LoggerMetrics.of(name);
     }
 
     @Override
     public void log(Marker marker, String fqcn, int level, String message, Object[] argArray, Throwable t) {
-        FormattingTuple result = MessageFormatter.arrayFormat(message, argArray);
-        switch (level) {
-            case LocationAwareLogger.TRACE_INT:
-                logger.trace(fqcn, result.getMessage(), t);
-                break;
-
-            case LocationAwareLogger.DEBUG_INT:
-                logger.debug(fqcn, result.getMessage(), t);
-                break;
-
-            case LocationAwareLogger.INFO_INT:
-                logger.info(fqcn, result.getMessage(), t);
-                break;
-
-            case LocationAwareLogger.WARN_INT:
-                logger.warn(fqcn, result.getMessage(), t);
-                break;
+        // the bridges pass the level as an int, which is a multiple of ten
+        final int index = level / 10;
+        if (level % 10 != 0 || index < 0 || index >= LEVELS_BY_INT.length) {
+            throw new IllegalStateException("Level number " + level + " is not recognized.");
+        }
+        final Level jbossLevel = LEVELS_BY_INT[index];
+        // the bridges do not check the level first, so reject a disabled level before anything is allocated
+        if (!shouldLog(jbossLevel, marker)) {
+            return;
+        }
+        final Object result = DeferredMessage.of(message, argArray, JBossMessageFormatter.argumentCount(argArray));
+        log(jbossLevel, fqcn, result, t);
+    }
 
-            case LocationAwareLogger.ERROR_INT:
-                logger.error(fqcn, result.getMessage(), t);
-                break;
+    @Override
+    public LoggingEventBuilder makeLoggingEventBuilder(final org.slf4j.event.Level level) {
+        // only invoked once the level has been checked
+        return JBossLoggingEventBuilder.create(this, level);
+    }
 
-            default:
-                throw new IllegalStateException("Level number " + level + " is not recognized.");
-        }
+    /**
+     * Creates a batch of events logged together. The level is checked when the batch is created and each time it is
+     * submitted, while it is disabled the events added to the batch are discarded.
+     *
+     * @param level the level of the events
+     *
+     * @return a new batch
+     */
+    public LogBatch batch(final org.slf4j.event.Level level) {
+        final Level jbossLevel = translate(level);
+        return new LogBatch(this, jbossLevel, isEnabled(jbossLevel));
     }
 
     @Override
     public boolean isTraceEnabled() {
-        return logger.isTraceEnabled();
+        return isEnabled(Level.TRACE);
     }
 
     @Override
     public void trace(final String msg) {
-        log(Level.TRACE, LOGGER_FQCN, msg, null);
+        if (shouldLog(Level.TRACE)) {
+            log(Level.TRACE, LOGGER_FQCN, msg, null);
+        }
     }
 
     @Override
     public void trace(final String format, final Object arg) {
-        if (logger.isTraceEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg);
-            log(Level.TRACE, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.TRACE)) {
+            logFormatted(Level.TRACE, format, arg);
         }
     }
 
     @Override
     public void trace(final String format, final Object arg1, final Object arg2) {
-        if (logger.isTraceEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg1, arg2);
-            log(Level.TRACE, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.TRACE)) {
+            logFormatted(Level.TRACE, format, arg1, arg2);
         }
     }
 
     @Override
     public void trace(final String format, final Object... arguments) {
-        if (logger.isTraceEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.arrayFormat(format, arguments);
-            log(Level.TRACE, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.TRACE)) {
+            logFormatted(Level.TRACE, format, arguments);
         }
     }
 
     @Override
     public void trace(final String msg, final Throwable t) {
-        if (logger.isTraceEnabled()) {
+        if (shouldLog(Level.TRACE)) {
+            log(Level.TRACE, LOGGER_FQCN, msg, t);
+        }
+    }
+
+    @Override
+    public boolean isTraceEnabled(final Marker marker) {
+        return isEnabled(Level.TRACE, marker);
+    }
+
+    @Override
+    public void trace(final Marker marker, final String msg) {
+        if (shouldLog(Level.TRACE, marker)) {
+            log(Level.TRACE, LOGGER_FQCN, msg, null);
+        }
+    }
+
+    @Override
+    public void trace(final Marker marker, final String format, final Object arg) {
+        if (shouldLog(Level.TRACE, marker)) {
+            logFormatted(Level.TRACE, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
+        if (shouldLog(Level.TRACE, marker)) {
+            logFormatted(Level.TRACE, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void trace(final Marker marker, final String format, final Object... arguments) {
+        if (shouldLog(Level.TRACE, marker)) {
+            logFormatted(Level.TRACE, format, arguments);
+        }
+    }
+
+    @Override
+    public void trace(final Marker marker, final String msg, final Throwable t) {
+        if (shouldLog(Level.TRACE, marker)) {
             log(Level.TRACE, LOGGER_FQCN, msg, t);
         }
     }
 
     @Override
     public boolean isDebugEnabled() {
-        return logger.isDebugEnabled();
+        return isEnabled(Level.DEBUG);
     }
 
     @Override
     public void debug(final String msg) {
-        if (logger.isDebugEnabled()) {
+        if (shouldLog(Level.DEBUG)) {
             log(Level.DEBUG, LOGGER_FQCN, msg, null);
         }
     }
 
     @Override
     public void debug(final String format, final Object arg) {
-        if (logger.isDebugEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg);
-            log(Level.DEBUG, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.DEBUG)) {
+            logFormatted(Level.DEBUG, format, arg);
         }
     }
 
     @Override
     public void debug(final String format, final Object arg1, final Object arg2) {
-        if (logger.isDebugEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg1, arg2);
-            log(Level.DEBUG, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.DEBUG)) {
+            logFormatted(Level.DEBUG, format, arg1, arg2);
         }
     }
 
     @Override
     public void debug(final String format, final Object... arguments) {
-        if (logger.isDebugEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.arrayFormat(format, arguments);
-            log(Level.DEBUG, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.DEBUG)) {
+            logFormatted(Level.DEBUG, format, arguments);
         }
     }
 
     @Override
     public void debug(final String msg, final Throwable t) {
-        if (logger.isDebugEnabled()) {
+        if (shouldLog(Level.DEBUG)) {
+            log(Level.DEBUG, LOGGER_FQCN, msg, t);
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled(final Marker marker) {
+        return isEnabled(Level.DEBUG, marker);
+    }
+
+    @Override
+    public void debug(final Marker marker, final String msg) {
+        if (shouldLog(Level.DEBUG, marker)) {
+            log(Level.DEBUG, LOGGER_FQCN, msg, null);
+        }
+    }
+
+    @Override
+    public void debug(final Marker marker, final String format, final Object arg) {
+        if (shouldLog(Level.DEBUG, marker)) {
+            logFormatted(Level.DEBUG, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
+        if (shouldLog(Level.DEBUG, marker)) {
+            logFormatted(Level.DEBUG, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void debug(final Marker marker, final String format, final Object... arguments) {
+        if (shouldLog(Level.DEBUG, marker)) {
+            logFormatted(Level.DEBUG, format, arguments);
+        }
+    }
+
+    @Override
+    public void debug(final Marker marker, final String msg, final Throwable t) {
+        if (shouldLog(Level.DEBUG, marker)) {
             log(Level.DEBUG, LOGGER_FQCN, msg, t);
         }
     }
 
     @Override
     public boolean isInfoEnabled() {
-        return logger.isInfoEnabled();
+        return isEnabled(Level.INFO);
     }
 
     @Override
     public void info(final String msg) {
-        if (logger.isInfoEnabled()) {
+        if (shouldLog(Level.INFO)) {
             log(Level.INFO, LOGGER_FQCN, msg, null);
         }
     }
 
     @Override
     public void info(final String format, final Object arg) {
-        if (logger.isInfoEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg);
-            log(Level.INFO, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.INFO)) {
+            logFormatted(Level.INFO, format, arg);
         }
     }
 
     @Override
     public void info(final String format, final Object arg1, final Object arg2) {
-        if (logger.isInfoEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg1, arg2);
-            log(Level.INFO, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.INFO)) {
+            logFormatted(Level.INFO, format, arg1, arg2);
         }
     }
 
     @Override
     public void info(final String format, final Object... arguments) {
-        if (logger.isInfoEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.arrayFormat(format, arguments);
-            log(Level.INFO, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.INFO)) {
+            logFormatted(Level.INFO, format, arguments);
         }
     }
 
     @Override
     public void info(final String msg, final Throwable t) {
-        if (logger.isInfoEnabled()) {
+        if (shouldLog(Level.INFO)) {
+            log(Level.INFO, LOGGER_FQCN, msg, t);
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled(final Marker marker) {
+        return isEnabled(Level.INFO, marker);
+    }
+
+    @Override
+    public void info(final Marker marker, final String msg) {
+        if (shouldLog(Level.INFO, marker)) {
+            log(Level.INFO, LOGGER_FQCN, msg, null);
+        }
+    }
+
+    @Override
+    public void info(final Marker marker, final String format, final Object arg) {
+        if (shouldLog(Level.INFO, marker)) {
+            logFormatted(Level.INFO, format, arg);
+        }
+    }
+
+    @Override
+    public void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
+        if (shouldLog(Level.INFO, marker)) {
+            logFormatted(Level.INFO, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void info(final Marker marker, final String format, final Object... arguments) {
+        if (shouldLog(Level.INFO, marker)) {
+            logFormatted(Level.INFO, format, arguments);
+        }
+    }
+
+    @Override
+    public void info(final Marker marker, final String msg, final Throwable t) {
+        if (shouldLog(Level.INFO, marker)) {
             log(Level.INFO, LOGGER_FQCN, msg, t);
         }
     }
 
     @Override
     public boolean isWarnEnabled() {
-        return logger.isEnabled(Level.WARN);
+        return isEnabled(Level.WARN);
     }
 
     @Override
     public void warn(final String msg) {
-        if (isWarnEnabled()) {
+        if (shouldLog(Level.WARN)) {
             log(Level.WARN, LOGGER_FQCN, msg, null);
         }
     }
 
     @Override
     public void warn(final String format, final Object arg) {
-        if (isWarnEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg);
-            log(Level.WARN, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.WARN)) {
+            logFormatted(Level.WARN, format, arg);
         }
     }
 
     @Override
     public void warn(final String format, final Object... arguments) {
-        if (isWarnEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.arrayFormat(format, arguments);
-            log(Level.WARN, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.WARN)) {
+            logFormatted(Level.WARN, format, arguments);
         }
     }
 
     @Override
     public void warn(final String format, final Object arg1, final Object arg2) {
-        if (isWarnEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg1, arg2);
-            log(Level.WARN, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.WARN)) {
+            logFormatted(Level.WARN, format, arg1, arg2);
         }
     }
 
     @Override
     public void warn(final String msg, final Throwable t) {
-        if (isWarnEnabled()) {
+        if (shouldLog(Level.WARN)) {
+            log(Level.WARN, LOGGER_FQCN, msg, t);
+        }
+    }
+
+    @Override
+    public boolean isWarnEnabled(final Marker marker) {
+        return isEnabled(Level.WARN, marker);
+    }
+
+    @Override
+    public void warn(final Marker marker, final String msg) {
+        if (shouldLog(Level.WARN, marker)) {
+            log(Level.WARN, LOGGER_FQCN, msg, null);
+        }
+    }
+
+    @Override
+    public void warn(final Marker marker, final String format, final Object arg) {
+        if (shouldLog(Level.WARN, marker)) {
+            logFormatted(Level.WARN, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
+        if (shouldLog(Level.WARN, marker)) {
+            logFormatted(Level.WARN, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void warn(final Marker marker, final String format, final Object... arguments) {
+        if (shouldLog(Level.WARN, marker)) {
+            logFormatted(Level.WARN, format, arguments);
+        }
+    }
+
+    @Override
+    public void warn(final Marker marker, final String msg, final Throwable t) {
+        if (shouldLog(Level.WARN, marker)) {
             log(Level.WARN, LOGGER_FQCN, msg, t);
         }
     }
 
     @Override
     public boolean isErrorEnabled() {
-        return logger.isEnabled(Level.ERROR);
+        return isEnabled(Level.ERROR);
     }
 
     @Override
     public void error(final String msg) {
-        if (isErrorEnabled()) {
+        if (shouldLog(Level.ERROR)) {
             log(Level.ERROR, LOGGER_FQCN, msg, null);
         }
     }
 
     @Override
     public void error(final String format, final Object arg) {
-        if (isErrorEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg);
-            log(Level.ERROR, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.ERROR)) {
+            logFormatted(Level.ERROR, format, arg);
         }
     }
 
     @Override
     public void error(final String format, final Object arg1, final Object arg2) {
-        if (isErrorEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.format(format, arg1, arg2);
-            log(Level.ERROR, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.ERROR)) {
+            logFormatted(Level.ERROR, format, arg1, arg2);
         }
     }
 
     @Override
     public void error(final String format, final Object... arguments) {
-        if (isErrorEnabled()) {
-            final FormattingTuple formattingTuple = MessageFormatter.arrayFormat(format, arguments);
-            log(Level.ERROR, LOGGER_FQCN, formattingTuple.getMessage(), formattingTuple.getThrowable());
+        if (shouldLog(Level.ERROR)) {
+            logFormatted(Level.ERROR, format, arguments);
         }
     }
 
     @Override
     public void error(final String msg, final Throwable t) {
-        if (isErrorEnabled()) {
+        if (shouldLog(Level.ERROR)) {
+            log(Level.ERROR, LOGGER_FQCN, msg, t);
+        }
+    }
+
+    @Override
+    public boolean isErrorEnabled(final Marker marker) {
+        return isEnabled(Level.ERROR, marker);
+    }
+
+    @Override
+    public void error(final Marker marker, final String msg) {
+        if (shouldLog(Level.ERROR, marker)) {
+            log(Level.ERROR, LOGGER_FQCN, msg, null);
+        }
+    }
+
+    @Override
+    public void error(final Marker marker, final String format, final Object arg) {
+        if (shouldLog(Level.ERROR, marker)) {
+            logFormatted(Level.ERROR, format, arg);
+        }
+    }
+
+    @Override
+    public void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
+        if (shouldLog(Level.ERROR, marker)) {
+            logFormatted(Level.ERROR, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void error(final Marker marker, final String format, final Object... arguments) {
+        if (shouldLog(Level.ERROR, marker)) {
+            logFormatted(Level.ERROR, format, arguments);
+        }
+    }
+
+    @Override
+    public void error(final Marker marker, final String msg, final Throwable t) {
+        if (shouldLog(Level.ERROR, marker)) {
             log(Level.ERROR, LOGGER_FQCN, msg, t);
         }
     }
 
-    private void log(final org.jboss.logging.Logger.Level level, final String fqcn, final Object message, final Throwable t) {
-        logger.log(level, fqcn, message, t);
+    @Override
+    public void trace(final String format, final int arg) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void trace(final String format, final long arg) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void trace(final String format, final float arg) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void trace(final String format, final double arg) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void trace(final String format, final char arg) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void trace(final String format, final boolean arg) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void trace(final String format, final int arg1, final int arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final int arg1, final long arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final int arg1, final float arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final int arg1, final double arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final int arg1, final char arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final int arg1, final boolean arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final long arg1, final int arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final long arg1, final long arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final long arg1, final float arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final long arg1, final double arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final long arg1, final char arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final long arg1, final boolean arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final float arg1, final int arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final float arg1, final long arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final float arg1, final float arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final float arg1, final double arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final float arg1, final char arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final float arg1, final boolean arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final double arg1, final int arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final double arg1, final long arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final double arg1, final float arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final double arg1, final double arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final double arg1, final char arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final double arg1, final boolean arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final char arg1, final int arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final char arg1, final long arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final char arg1, final float arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final char arg1, final double arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final char arg1, final char arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final char arg1, final boolean arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final boolean arg1, final int arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final boolean arg1, final long arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.LONG, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final boolean arg1, final float arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final boolean arg1, final double arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final boolean arg1, final char arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void trace(final String format, final boolean arg1, final boolean arg2) {
+        logPrimitive(Level.TRACE, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final int arg) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void debug(final String format, final long arg) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void debug(final String format, final float arg) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void debug(final String format, final double arg) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void debug(final String format, final char arg) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void debug(final String format, final boolean arg) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void debug(final String format, final int arg1, final int arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final int arg1, final long arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final int arg1, final float arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final int arg1, final double arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final int arg1, final char arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final int arg1, final boolean arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final long arg1, final int arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final long arg1, final long arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final long arg1, final float arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final long arg1, final double arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final long arg1, final char arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final long arg1, final boolean arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final float arg1, final int arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final float arg1, final long arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final float arg1, final float arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final float arg1, final double arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final float arg1, final char arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final float arg1, final boolean arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final double arg1, final int arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final double arg1, final long arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final double arg1, final float arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final double arg1, final double arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final double arg1, final char arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final double arg1, final boolean arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final char arg1, final int arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final char arg1, final long arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final char arg1, final float arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final char arg1, final double arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final char arg1, final char arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final char arg1, final boolean arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final boolean arg1, final int arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final boolean arg1, final long arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.LONG, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final boolean arg1, final float arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final boolean arg1, final double arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final boolean arg1, final char arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void debug(final String format, final boolean arg1, final boolean arg2) {
+        logPrimitive(Level.DEBUG, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final int arg) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void info(final String format, final long arg) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void info(final String format, final float arg) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void info(final String format, final double arg) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void info(final String format, final char arg) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void info(final String format, final boolean arg) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void info(final String format, final int arg1, final int arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final int arg1, final long arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final int arg1, final float arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final int arg1, final double arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final int arg1, final char arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final int arg1, final boolean arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final long arg1, final int arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final long arg1, final long arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final long arg1, final float arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final long arg1, final double arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final long arg1, final char arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final long arg1, final boolean arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final float arg1, final int arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final float arg1, final long arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final float arg1, final float arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final float arg1, final double arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final float arg1, final char arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final float arg1, final boolean arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final double arg1, final int arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final double arg1, final long arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final double arg1, final float arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final double arg1, final double arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final double arg1, final char arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final double arg1, final boolean arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final char arg1, final int arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final char arg1, final long arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final char arg1, final float arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final char arg1, final double arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final char arg1, final char arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final char arg1, final boolean arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final boolean arg1, final int arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final boolean arg1, final long arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final boolean arg1, final float arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final boolean arg1, final double arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final boolean arg1, final char arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void info(final String format, final boolean arg1, final boolean arg2) {
+        logPrimitive(Level.INFO, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final int arg) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void warn(final String format, final long arg) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void warn(final String format, final float arg) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void warn(final String format, final double arg) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void warn(final String format, final char arg) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void warn(final String format, final boolean arg) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void warn(final String format, final int arg1, final int arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final int arg1, final long arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final int arg1, final float arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final int arg1, final double arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final int arg1, final char arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final int arg1, final boolean arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final long arg1, final int arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final long arg1, final long arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final long arg1, final float arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final long arg1, final double arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final long arg1, final char arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final long arg1, final boolean arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final float arg1, final int arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final float arg1, final long arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final float arg1, final float arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final float arg1, final double arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final float arg1, final char arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final float arg1, final boolean arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final double arg1, final int arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final double arg1, final long arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final double arg1, final float arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final double arg1, final double arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final double arg1, final char arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final double arg1, final boolean arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final char arg1, final int arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final char arg1, final long arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final char arg1, final float arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final char arg1, final double arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final char arg1, final char arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final char arg1, final boolean arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final boolean arg1, final int arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final boolean arg1, final long arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final boolean arg1, final float arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final boolean arg1, final double arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final boolean arg1, final char arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void warn(final String format, final boolean arg1, final boolean arg2) {
+        logPrimitive(Level.WARN, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final int arg) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void error(final String format, final long arg) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void error(final String format, final float arg) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void error(final String format, final double arg) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void error(final String format, final char arg) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void error(final String format, final boolean arg) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg));
+    }
+
+    @Override
+    public void error(final String format, final int arg1, final int arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final int arg1, final long arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final int arg1, final float arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final int arg1, final double arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final int arg1, final char arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final int arg1, final boolean arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.INT, PrimitiveMessage.encode(arg1), PrimitiveMessage.BOOLEAN,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final long arg1, final int arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final long arg1, final long arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final long arg1, final float arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final long arg1, final double arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final long arg1, final char arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final long arg1, final boolean arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.LONG, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final float arg1, final int arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final float arg1, final long arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final float arg1, final float arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final float arg1, final double arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final float arg1, final char arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final float arg1, final boolean arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final double arg1, final int arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final double arg1, final long arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final double arg1, final float arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final double arg1, final double arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final double arg1, final char arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final double arg1, final boolean arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final char arg1, final int arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final char arg1, final long arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final char arg1, final float arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.FLOAT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final char arg1, final double arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.DOUBLE,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final char arg1, final char arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1), PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final char arg1, final boolean arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final boolean arg1, final int arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1), PrimitiveMessage.INT,
+                PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final boolean arg1, final long arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.LONG, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final boolean arg1, final float arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.FLOAT, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final boolean arg1, final double arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.DOUBLE, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final boolean arg1, final char arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.CHAR, PrimitiveMessage.encode(arg2));
+    }
+
+    @Override
+    public void error(final String format, final boolean arg1, final boolean arg2) {
+        logPrimitive(Level.ERROR, format, PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg1),
+                PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(arg2));
+    }
+
+    private void logPrimitive(final Level level, final String format, final int kind, final long value) {
+        if (shouldLog(level)) {
+            log(level, LOGGER_FQCN, PrimitiveMessage.of(format, kind, value), null);
+        }
+    }
+
+    private void logPrimitive(final Level level, final String format, final int kind1, final long value1,
+            final int kind2, final long value2) {
+        if (shouldLog(level)) {
+            log(level, LOGGER_FQCN, PrimitiveMessage.of(format, kind1, value1, kind2, value2), null);
+        }
+    }
+
+    boolean isEnabled(final Level level) {
+        return isEnabled(level, null, false);
+    }
+
+    private boolean isEnabled(final Level level, final Marker marker) {
+        return isEnabled(level, marker, false);
+    }
+
+    private boolean shouldLog(final Level level) {
+        return isEnabled(level, null, true) || rejected(level);
+    }
+
+    private boolean shouldLog(final Level level, final Marker marker) {
+        return isEnabled(level, marker, true) || rejected(level);
+    }
+
+    /**
+     * Checks the level against the overrides of the marker. Events whose markers do not have an override are checked
+     * as if they did not have a marker. A level which is shed is only let through as the probe of the load shedder
+     * when an event is about to be logged, never when the level is queried.
+     */
+    private boolean isEnabled(final Level level, final Marker marker, final boolean logging) {
+        final int mask = MarkerLevels.ENABLED && marker != null ? MarkerLevels.mask(marker) : 0;
+        if (mask != 0) {
+            if (!MarkerLevels.isEnabled(mask, level)) {
+                return false;
+            }
+        } else if (MarkerLevels.UNMARKED_ENABLED && !MarkerLevels.isUnmarkedEnabled(level)) {
+            return false;
+        }
+        if (LoadShedder.ENABLED && LoadShedder.INSTANCE.isShed(level)) {
+            return logging && isLoggable(level) && LoadShedder.INSTANCE.tryProbe();
+        }
+        return isLoggable(level);
+    }
+
+    /**
+     * Checks the level against the log manager, which filters the record regardless of any marker overrides, and, for
+     * levels which are buffered, whether the thread is in a scope.
+     */
+    boolean isLoggable(final Level level) {
+        if (ErrorBuffer.ENABLED && level.ordinal() > bufferThreshold && !ErrorBuffer.isActive()) {
+            return false;
+        }
+        if (LevelCache.ENABLED) {
+            int state = levelState;
+            if (LevelCache.generation(state) != LevelCache.generation()) {
+                state = refreshLevelState();
+            }
+            return LevelCache.isEnabled(state, level);
+        }
+        return logger.isEnabled(level);
+    }
+
+    static Level translate(final org.slf4j.event.Level level) {
+        switch (level) {
+            case TRACE:
+                return Level.TRACE;
+            case DEBUG:
+                return Level.DEBUG;
+            case INFO:
+                return Level.INFO;
+            case WARN:
+                return Level.WARN;
+            case ERROR:
+                return Level.ERROR;
+            default:
+                throw new IllegalStateException("Level " + level + " is not recognized.");
+        }
+    }
+
+    private boolean rejected(final Level level) {
+        if (LoggerMetrics.ENABLED) {
+            metrics.rejected(level);
+        }
+        return false;
+    }
+
+    private void rejected(final Level level, final int count) {
+        if (LoggerMetrics.ENABLED && count > 0) {
+            metrics.rejected(level, count);
+        }
+    }
+
+    private int refreshLevelState() {
+        // read the generation first so an invalidation which races with this refresh is not lost
+        final int state = LevelCache.state(LevelCache.generation(), logger);
+        levelState = state;
+        return state;
+    }
+
+    private void logFormatted(final Level level, final String format, final Object arg) {
+        if (arg instanceof Throwable) {
+            log(level, LOGGER_FQCN, format, (Throwable) arg);
+        } else {
+            log(level, LOGGER_FQCN, DeferredMessage.of(format, arg), null);
+        }
+    }
+
+    private void logFormatted(final Level level, final String format, final Object arg1, final Object arg2) {
+        if (arg2 instanceof Throwable) {
+            log(level, LOGGER_FQCN, DeferredMessage.of(format, arg1), (Throwable) arg2);
+        } else {
+            log(level, LOGGER_FQCN, DeferredMessage.of(format, arg1, arg2), null);
+        }
+    }
+
+    private void logFormatted(final Level level, final String format, final Object[] arguments) {
+        final Throwable t = JBossMessageFormatter.getThrowableCandidate(arguments);
+        log(level, LOGGER_FQCN, DeferredMessage.of(format, arguments, JBossMessageFormatter.argumentCount(arguments)), t);
+    }
+
+    void log(final org.jboss.logging.Logger.Level level, final String fqcn, final Object message, final Throwable t) {
+        if (ErrorBuffer.ENABLED) {
+            if (level.ordinal() > bufferThreshold) {
+                if (!ErrorBuffer.capture(this, level, message, t)) {
+                    rejected(level);
+                }
+                return;
+            }
+            if (level.ordinal() <= Level.ERROR.ordinal()) {
+                flushBuffered(fqcn);
+            }
+        }
+        final int sampleRate = sampleRates == null ? 0 : sampleRates[level.ordinal()];
+        if (sampleRate > 1 && !Sampler.sample(sampleRate)) {
+            rejected(level);
+            return;
+        }
+        if (rateLimiter != null && !rateLimiter.tryAcquire(level, message)) {
+            rejected(level);
+            return;
+        }
+        Object result = message;
+        Throwable thrown = t;
+        if (StackDeduplicator.ENABLED && t != null) {
+            final StackDeduplicator.Reference reference = StackDeduplicator.INSTANCE.reference(message, t);
+            if (reference != null) {
+                result = reference;
+                thrown = reference.isRepeat() ? null : t;
+            }
+        }
+        if (sampleRate > 1) {
+            Sampler.log(this, sampleRate, level, fqcn, result, thrown);
+        } else {
+            publish(level, fqcn, result, thrown);
+        }
+    }
+
+    /**
+     * Logs the events buffered in the scope of the thread ahead of an error. The events are logged with the class name
+     * of the error, so the caller resolved for them is the caller of the error.
+     */
+    private static void flushBuffered(final String fqcn) {
+        final ErrorBuffer.Events events = ErrorBuffer.drain();
+        if (events == null) {
+            return;
+        }
+        if (events.discarded() > 0L) {
+            events.adapter(0).publish(events.level(0), fqcn,
+                    String.format("%,d earlier events were discarded as the buffer was full", events.discarded()), null);
+        }
+        for (int i = 0; i < events.size(); i++) {
+            final String[] keyValues = events.keyValues(i);
+            if (keyValues == null) {
+                events.adapter(i).publish(events.level(i), fqcn, events.message(i), events.thrown(i));
+            } else {
+                publishWithKeyValues(events, i, fqcn, keyValues);
+            }
+        }
+    }
+
+    /**
+     * Logs a buffered fluent event with its key/value pairs placed in the MDC again, as they were when it was buffered.
+     */
+    private static void publishWithKeyValues(final ErrorBuffer.Events events, final int index, final String fqcn,
+            final String[] keyValues) {
+        final Object[] previous = new Object[keyValues.length >> 1];
+        for (int i = 0; i < keyValues.length; i += 2) {
+            if (keyValues[i] != null) {
+                previous[i >> 1] = org.jboss.logging.MDC.put(keyValues[i], keyValues[i + 1]);
+            }
+        }
+        try {
+            events.adapter(index).publish(events.level(index), fqcn, events.message(index), events.thrown(index));
+        } finally {
+            // restore in reverse order in case a key was added more than once
+            for (int i = keyValues.length - 2; i >= 0; i -= 2) {
+                final String key = keyValues[i];
+                if (key != null) {
+                    if (previous[i >> 1] == null) {
+                        org.jboss.logging.MDC.remove(key);
+                    } else {
+                        org.jboss.logging.MDC.put(key, previous[i >> 1]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Logs the events of a batch. The level is checked again as it may have changed since the events were added.
+     * Sampling is decided once for the batch, which then passes through the same steps as a single event until it is
+     * dispatched.
+     */
+    void logAll(final org.jboss.logging.Logger.Level level, final String fqcn, final LogBatch batch) {
+        if (!isEnabled(level, null, true)) {
+            rejected(level, batch.size());
+            return;
+        }
+        if (ErrorBuffer.ENABLED) {
+            if (level.ordinal() > bufferThreshold) {
+                final Object[] messages = batch.messages();
+                final Throwable[] thrown = batch.thrown();
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!ErrorBuffer.capture(this, level, messages[i], thrown[i])) {
+                        rejected(level);
+                    }
+                }
+                return;
+            }
+            if (level.ordinal() <= Level.ERROR.ordinal()) {
+                flushBuffered(fqcn);
+            }
+        }
+        final int sampleRate = sampleRates == null ? 0 : sampleRates[level.ordinal()];
+        if (sampleRate > 1 && !Sampler.sample(sampleRate)) {
+            rejected(level, batch.size());
+            return;
+        }
+        if (rateLimiter != null) {
+            final Object[] messages = batch.messages();
+            rejected(level, batch.retain(i -> rateLimiter.tryAcquire(level, messages[i])));
+            if (batch.size() == 0) {
+                return;
+            }
+        }
+        if (StackDeduplicator.ENABLED) {
+            final Object[] messages = batch.messages();
+            final Throwable[] thrown = batch.thrown();
+            for (int i = 0; i < batch.size(); i++) {
+                if (thrown[i] != null) {
+                    final StackDeduplicator.Reference reference = StackDeduplicator.INSTANCE.reference(messages[i],
+                            thrown[i]);
+                    if (reference != null) {
+                        messages[i] = reference;
+                        if (reference.isRepeat()) {
+                            thrown[i] = null;
+                        }
+                    }
+                }
+            }
+        }
+        if (sampleRate > 1) {
+            Sampler.log(this, sampleRate, level, fqcn, batch, null);
+        } else {
+            publish(level, fqcn, batch, null);
+        }
+    }
+
+    void publish(final org.jboss.logging.Logger.Level level, final String fqcn, final Object message,
+            final Throwable t) {
+        if (ScopedMDCAdapter.ENABLED) {
+            ScopedMDCAdapter.log(this, level, fqcn, message, t);
+        } else {
+            dispatch(level, fqcn, message, t);
+        }
+    }
+
+    void dispatch(final org.jboss.logging.Logger.Level level, final String fqcn, final Object message,
+            final Throwable t) {
+        if (message instanceof LogBatch) {
+            dispatchAll(level, fqcn, (LogBatch) message);
+            return;
+        }
+        if (BlackBox.ENABLED) {
+            BlackBox.INSTANCE.record(name, level, message, t);
+        }
+        boolean sampled = false;
+        if (LoggerMetrics.ENABLED) {
+            metrics.emitted(level);
+            sampled = LoggerMetrics.shouldTime();
+        }
+        boolean recorded = false;
+        if (FlightRecorderSupport.AVAILABLE) {
+            FlightRecorderSupport.count(level);
+            recorded = FlightRecorderSupport.isLogEnabled();
+        }
+        if (sampled || recorded) {
+            timed(level, fqcn, message, t, sampled, recorded);
+        } else {
+            measured(level, fqcn, message, t);
+        }
+    }
+
+    private void dispatchAll(final org.jboss.logging.Logger.Level level, final String fqcn, final LogBatch batch) {
+        final int size = batch.size();
+        if (BlackBox.ENABLED) {
+            final Object[] messages = batch.messages();
+            final Throwable[] thrown = batch.thrown();
+            for (int i = 0; i < size; i++) {
+                BlackBox.INSTANCE.record(name, level, messages[i], thrown[i]);
+            }
+        }
+        if (LoggerMetrics.ENABLED) {
+            metrics.emitted(level, size);
+        }
+        if (FlightRecorderSupport.AVAILABLE) {
+            FlightRecorderSupport.count(level, size);
+        }
+        if (LoadShedder.ENABLED && LoadShedder.INSTANCE.shouldMeasure()) {
+            final long start = System.nanoTime();
+            try {
+                delegateAll(level, fqcn, batch.messages(), batch.thrown(), size);
+            } finally {
+                // the shedder tracks the time of a single event
+                LoadShedder.INSTANCE.record((System.nanoTime() - start) / size);
+            }
+        } else {
+            delegateAll(level, fqcn, batch.messages(), batch.thrown(), size);
+        }
+    }
+
+    private void timed(final org.jboss.logging.Logger.Level level, final String fqcn, final Object message,
+            final Throwable t, final boolean sampled, final boolean recorded) {
+        final Object event = recorded ? FlightRecorderSupport.begin() : null;
+        final long start = System.nanoTime();
+        if (message instanceof DeferredMessage) {
+            // the formatted message is cached, so formatting it first times it separately from the log manager
+            message.toString();
+        }
+        final long delegated = System.nanoTime();
+        try {
+            measured(level, fqcn, message, t);
+        } finally {
+            final long end = System.nanoTime();
+            if (sampled) {
+                if (message instanceof DeferredMessage) {
+                    LoggerMetrics.recordFormat(delegated - start);
+                }
+                LoggerMetrics.recordDelegate(end - delegated);
+            }
+            if (event != null) {
+                FlightRecorderSupport.commit(event, name, level, delegated - start, end - delegated);
+            }
+        }
+    }
+
+    private void measured(final org.jboss.logging.Logger.Level level, final String fqcn, final Object message,
+            final Throwable t) {
+        if (LoadShedder.ENABLED && LoadShedder.INSTANCE.shouldMeasure()) {
+            final long start = System.nanoTime();
+            try {
+                delegate(level, fqcn, message, t);
+            } finally {
+                LoadShedder.INSTANCE.record(System.nanoTime() - start);
+            }
+        } else {
+            delegate(level, fqcn, message, t);
+        }
+    }
+
+    private void delegate(final org.jboss.logging.Logger.Level level, final String fqcn, final Object message,
+            final Throwable t) {
+        if (AsyncDispatcher.ENABLED) {
+            AsyncDispatcher.INSTANCE.dispatch(this, level, fqcn, message, t);
+        } else {
+            logger.log(level, fqcn, message, t);
+        }
+    }
+
+    private void delegateAll(final org.jboss.logging.Logger.Level level, final String fqcn, final Object[] messages,
+            final Throwable[] thrown, final int size) {
+        if (AsyncDispatcher.ENABLED) {
+            AsyncDispatcher.INSTANCE.dispatchAll(this, level, fqcn, messages, thrown, size);
+        } else {
+            // JBoss Logging has no way to log several records at once, each event is a call to the log manager
+            for (int i = 0; i < size; i++) {
+                logger.log(level, fqcn, messages[i], thrown[i]);
+            }
+        }
     }
 }
@@ -17,8 +17,8 @@
  */
 package org.jboss.slf4j;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
@@ -37,35 +37,59 @@ public class JBossLoggerFactory implements ILoggerFactory {
     /**
      * JBossLoggerAdapter cache
      */
-    Map<String, Logger> loggerMap;
+    final ConcurrentMap<String, Logger> loggerMap;
 
     public JBossLoggerFactory() {
-        loggerMap = new HashMap<>();
+        loggerMap = new ConcurrentHashMap<>();
     }
 
     /**
      * @see org.slf4j.ILoggerFactory#getLogger(java.lang.String)
      */
     public Logger getLogger(String name) {
-        Logger slf4jLogger = null;
+        // lock-free fast path for loggers which have already been created
+        final Logger slf4jLogger = loggerMap.get(name);
+        if (slf4jLogger != null) {
+            return slf4jLogger;
+        }
+        // no logger found, only one adapter is created per name if there is a race
+        return loggerMap.computeIfAbsent(name, JBossLoggerFactory::createLogger);
+    }
 
-        // protect against concurrent access of loggerMap
-        synchronized (this) {
-            slf4jLogger = loggerMap.get(name);
+    /**
+     * Invalidates the effective levels cached by the adapters. This only has an effect if the level cache has been
+     * enabled with the {@code org.jboss.slf4j.level.cache} system property.
+     * <p>
+     * This must be invoked after the levels of the log manager have been changed, unless the change was made by the
+     * {@linkplain java.util.logging.LogManager#readConfiguration() JUL log manager reading its configuration}.
+     * </p>
+     */
+    public static void invalidateLevelCache() {
+        LevelCache.invalidate();
+    }
 
-            // no logger found
-            if (slf4jLogger == null) {
-                // create a new jboss logger
-                org.jboss.logging.Logger jbossLogger;
-                jbossLogger = org.jboss.logging.Logger.getLogger(name);
+    /**
+     * Returns the number of events which were dropped as the asynchronous logging buffer was full. This is always
+     * {@code 0} unless asynchronous logging has been enabled with the {@code org.jboss.slf4j.async} system property.
+     *
+     * @return the number of dropped events
+     */
+    public static long getAsyncDroppedCount() {
+        return AsyncDispatcher.ENABLED ? AsyncDispatcher.INSTANCE.droppedCount() : 0L;
+    }
 
-                // wrap it with an adapter
-                slf4jLogger = new JBossLoggerAdapter(jbossLogger);
+    /**
+     * Registers the {@link LoggingMetricsMXBean} with the platform MBean server. This does nothing unless metrics have
+     * been enabled with the {@code org.jboss.slf4j.metrics} system property or the metrics have already been
+     * registered. The metrics are registered when the binding is initialized, so this is only required if the binding
+     * is used without SLF4J.
+     */
+    public static void registerMetrics() {
+        LoggerMetrics.register();
+    }
 
-                // put it in the map
-                loggerMap.put(name, slf4jLogger);
-            }
-        }
-        return slf4jLogger;
+    private static Logger createLogger(final String name) {
+        // create a new jboss logger and wrap it with an adapter
+        return new JBossLoggerAdapter(org.jboss.logging.Logger.getLogger(name));
     }
 }
@@ -0,0 +1,368 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.MDC;
+import org.slf4j.Marker;
+import org.slf4j.spi.CallerBoundaryAware;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * A {@link LoggingEventBuilder} which logs directly to the {@link JBossLoggerAdapter}.
+ * <p>
+ * A builder is only created once the level has been checked, a disabled level gets the SLF4J no-op builder. Each
+ * thread reuses a single builder, unless it's already in use which can happen if a supplier logs. Suppliers for the
+ * message, arguments and key/value pairs are only invoked when the event is logged. As with any SLF4J builder the
+ * builder must not be used after one of the {@code log()} methods has been invoked.
+ * </p>
+ * <p>
+ * Markers with a {@linkplain MarkerLevels level override} are checked when the event is logged. As the level is
+ * checked before any markers are added, a marker cannot enable a level which is disabled for the logger.
+ * </p>
+ * <p>
+ * Key/value pairs are placed in the {@link MDC} while the record is logged and the previous values are restored
+ * afterward. Formatters, including structured formatters, read them as they would any other MDC entry. They are not
+ * passed as record parameters as the log manager would then treat the already formatted message as a
+ * {@link java.text.MessageFormat} pattern.
+ * </p>
+ */
+final class JBossLoggingEventBuilder implements LoggingEventBuilder, CallerBoundaryAware {
+    private static final String FQCN = JBossLoggingEventBuilder.class.getName();
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static final ThreadLocal<JBossLoggingEventBuilder> CACHED = ThreadLocal
+            .withInitial(JBossLoggingEventBuilder::new);
+
+    private boolean inUse;
+    private JBossLoggerAdapter logger;
+    private Level level;
+    private String fqcn;
+    private String message;
+    private Supplier<String> messageSupplier;
+    private Throwable cause;
+
+    private Object[] arguments = new Object[INITIAL_CAPACITY];
+    private boolean[] suppliedArguments = new boolean[INITIAL_CAPACITY];
+    private int argumentCount;
+
+    private Marker[] markers = new Marker[INITIAL_CAPACITY];
+    private int markerCount;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private boolean[] suppliedValues = new boolean[INITIAL_CAPACITY];
+    private int keyValueCount;
+
+    private JBossLoggingEventBuilder() {
+    }
+
+    /**
+     * Returns a builder for the logger. The level must have already been checked.
+     *
+     * @param logger the logger to log to
+     * @param level  the level of the event
+     *
+     * @return the builder
+     */
+    static LoggingEventBuilder create(final JBossLoggerAdapter logger, final org.slf4j.event.Level level) {
+        JBossLoggingEventBuilder builder = CACHED.get();
+        if (builder.inUse) {
+            builder = new JBossLoggingEventBuilder();
+        }
+        builder.inUse = true;
+        builder.logger = logger;
+        builder.level = JBossLoggerAdapter.translate(level);
+        builder.fqcn = FQCN;
+        return builder;
+    }
+
+    @Override
+    public LoggingEventBuilder setCause(final Throwable cause) {
+        this.cause = cause;
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addMarker(final Marker marker) {
+        if (markerCount == markers.length) {
+            markers = Arrays.copyOf(markers, markerCount << 1);
+        }
+        markers[markerCount++] = marker;
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(final Object p) {
+        addArgument(p, false);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(final Supplier<?> objectSupplier) {
+        addArgument(objectSupplier, true);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addKeyValue(final String key, final Object value) {
+        addKeyValue(key, value, false);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addKeyValue(final String key, final Supplier<Object> valueSupplier) {
+        addKeyValue(key, valueSupplier, true);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder setMessage(final String message) {
+        this.message = message;
+        this.messageSupplier = null;
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder setMessage(final Supplier<String> messageSupplier) {
+        this.message = null;
+        this.messageSupplier = messageSupplier;
+        return this;
+    }
+
+    @Override
+    public void setCallerBoundary(final String fqcn) {
+        this.fqcn = fqcn;
+    }
+
+    @Override
+    public void log() {
+        emit();
+    }
+
+    @Override
+    public void log(final String message) {
+        setMessage(message);
+        emit();
+    }
+
+    @Override
+    public void log(final String message, final Object arg) {
+        setMessage(message);
+        addArgument(arg, false);
+        emit();
+    }
+
+    @Override
+    public void log(final String message, final Object arg0, final Object arg1) {
+        setMessage(message);
+        addArgument(arg0, false);
+        addArgument(arg1, false);
+        emit();
+    }
+
+    @Override
+    public void log(final String message, final Object... args) {
+        setMessage(message);
+        if (args != null) {
+            for (Object arg : args) {
+                addArgument(arg, false);
+            }
+        }
+        emit();
+    }
+
+    @Override
+    public void log(final Supplier<String> messageSupplier) {
+        setMessage(messageSupplier);
+        emit();
+    }
+
+    private void addArgument(final Object arg, final boolean supplied) {
+        if (argumentCount == arguments.length) {
+            arguments = Arrays.copyOf(arguments, argumentCount << 1);
+            suppliedArguments = Arrays.copyOf(suppliedArguments, argumentCount << 1);
+        }
+        suppliedArguments[argumentCount] = supplied;
+        arguments[argumentCount++] = arg;
+    }
+
+    private void addKeyValue(final String key, final Object value, final boolean supplied) {
+        if (keyValueCount == keys.length) {
+            keys = Arrays.copyOf(keys, keyValueCount << 1);
+            values = Arrays.copyOf(values, keyValueCount << 1);
+            suppliedValues = Arrays.copyOf(suppliedValues, keyValueCount << 1);
+        }
+        keys[keyValueCount] = key;
+        suppliedValues[keyValueCount] = supplied;
+        values[keyValueCount++] = value;
+    }
+
+    private void emit() {
+        final JBossLoggerAdapter logger = this.logger;
+        if (logger == null) {
+            // the builder has already been logged
+            return;
+        }
+        try {
+            if (MarkerLevels.ENABLED && markerCount > 0 && !isMarkerEnabled()) {
+                return;
+            }
+            String message = this.message;
+            if (messageSupplier != null) {
+                message = messageSupplier.get();
+            }
+            final Object[] arguments = this.arguments;
+            for (int i = 0; i < argumentCount; i++) {
+                if (suppliedArguments[i]) {
+                    arguments[i] = ((Supplier<?>) arguments[i]).get();
+                }
+            }
+            for (int i = 0; i < keyValueCount; i++) {
+                if (suppliedValues[i]) {
+                    values[i] = ((Supplier<?>) values[i]).get();
+                }
+            }
+            Throwable t = cause;
+            int count = argumentCount;
+            if (t == null && count > 0 && arguments[count - 1] instanceof Throwable) {
+                // as with the other logging methods a trailing throwable is the cause
+                t = (Throwable) arguments[--count];
+            }
+            // JBoss Logging converts the message to a string before returning so the arguments can be reused, unless
+            // the event is buffered until an error in which case the message outlives this call
+            final Object[] args = ErrorBuffer.ENABLED && count > 0 ? Arrays.copyOf(arguments, count) : arguments;
+            final Object result;
+            if (markerCount == 0) {
+                result = DeferredMessage.of(message, args, count);
+            } else if (message == null) {
+                result = prefix() + null;
+            } else {
+                result = new MarkedMessage(prefix(), message, count == 0 ? null : args, count);
+            }
+            if (keyValueCount > 0) {
+                logWithKeyValues(logger, result, t);
+            } else {
+                logger.log(level, fqcn, result, t);
+            }
+        } finally {
+            reset();
+        }
+    }
+
+    private void logWithKeyValues(final JBossLoggerAdapter logger, final Object message, final Throwable t) {
+        // the key/value pairs are visible in the MDC only while the record is created and published
+        final Object[] previous = new Object[keyValueCount];
+        // kept with the event if it is buffered until an error
+        final String[] keyValues = ErrorBuffer.ENABLED ? new String[keyValueCount << 1] : null;
+        for (int i = 0; i < keyValueCount; i++) {
+            if (keys[i] != null) {
+                final String value = String.valueOf(values[i]);
+                previous[i] = MDC.put(keys[i], value);
+                if (keyValues != null) {
+                    keyValues[i << 1] = keys[i];
+                    keyValues[(i << 1) + 1] = value;
+                }
+            }
+        }
+        if (keyValues != null) {
+            ErrorBuffer.keyValues(keyValues);
+        }
+        try {
+            logger.log(level, fqcn, message, t);
+        } finally {
+            if (keyValues != null) {
+                ErrorBuffer.keyValues(null);
+            }
+            // restore in reverse order in case a key was added more than once
+            for (int i = keyValueCount - 1; i >= 0; i--) {
+                final String key = keys[i];
+                if (key != null) {
+                    if (previous[i] == null) {
+                        MDC.remove(key);
+                    } else {
+                        MDC.put(key, previous[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isMarkerEnabled() {
+        int mask = 0;
+        for (int i = 0; i < markerCount; i++) {
+            if (markers[i] != null) {
+                mask |= MarkerLevels.mask(markers[i]);
+            }
+        }
+        // the level has already been checked for events without a marker override
+        return mask == 0 || MarkerLevels.isEnabled(mask, level);
+    }
+
+    private String prefix() {
+        // the same format used by the SLF4J default builder
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < markerCount; i++) {
+            sb.append(markers[i]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private void reset() {
+        Arrays.fill(arguments, 0, argumentCount, null);
+        Arrays.fill(markers, 0, markerCount, null);
+        Arrays.fill(keys, 0, keyValueCount, null);
+        Arrays.fill(values, 0, keyValueCount, null);
+        argumentCount = 0;
+        markerCount = 0;
+        keyValueCount = 0;
+        logger = null;
+        level = null;
+        message = null;
+        messageSupplier = null;
+        cause = null;
+        inUse = false;
+    }
+
+    /**
+     * A message prefixed with the markers of the event. The prefix is only added when the message is formatted, so
+     * the rate limiter and the black box still see the pattern and its arguments.
+     */
+    private static final class MarkedMessage extends DeferredMessage {
+        private final String prefix;
+
+        MarkedMessage(final String prefix, final String format, final Object[] arguments, final int count) {
+            super(format, null, null, arguments, count);
+            this.prefix = prefix;
+        }
+
+        @Override
+        String getPrefix() {
+            return prefix;
+        }
+
+        @Override
+        String format() {
+            return getCount() == 0 ? prefix + getFormat() : prefix + super.format();
+        }
+    }
+}
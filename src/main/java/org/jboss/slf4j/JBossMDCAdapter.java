@@ -17,8 +17,10 @@
  */
 package org.jboss.slf4j;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.jboss.logging.MDC;
 import org.slf4j.helpers.BasicMDCAdapter;
@@ -34,10 +36,8 @@ public class JBossMDCAdapter extends BasicMDCAdapter implements MDCAdapter {
 
     @Override
     public void clear() {
-        Map<String, Object> map = MDC.getMap();
-
-        if (map != null)
-            map.clear();
+        // the map returned from the JBoss Log Manager is a copy, so it cannot be cleared directly
+        MDC.clear();
     }
 
     @Override
@@ -79,4 +79,71 @@ public class JBossMDCAdapter extends BasicMDCAdapter implements MDCAdapter {
             }
         }
     }
+
+    /**
+     * Captures the context of the current thread so it can be {@linkplain #install(Object) installed} on another
+     * thread. The captured context is never changed.
+     *
+     * @return the captured context
+     */
+    Object capture() {
+        final Map<String, Object> map = MDC.getMap();
+        return map.isEmpty() ? Map.of() : new HashMap<>(map);
+    }
+
+    /**
+     * Installs a context {@linkplain #capture() captured} by this adapter on the current thread. Only the entries
+     * which differ from the context of the thread are written.
+     *
+     * @param context the captured context
+     *
+     * @return the previous context of the thread, to be passed to {@link #restore(Object)}
+     */
+    @SuppressWarnings("unchecked")
+    Object install(final Object context) {
+        final Map<String, Object> previous = (Map<String, Object>) capture();
+        update(previous, (Map<String, Object>) context);
+        return previous;
+    }
+
+    /**
+     * Restores the context returned from {@link #install(Object)}. Only the entries which differ from the context of
+     * the thread are written.
+     *
+     * @param previous the previous context of the thread
+     */
+    @SuppressWarnings("unchecked")
+    void restore(final Object previous) {
+        update(MDC.getMap(), (Map<String, Object>) previous);
+    }
+
+    /**
+     * Changes the context of the thread from the current entries to the next entries, removing the keys which are
+     * missing and writing the values which differ.
+     */
+    private static void update(final Map<String, Object> current, final Map<String, Object> next) {
+        if (current.equals(next)) {
+            return;
+        }
+        // the current map may be the map of the provider, so the keys are collected before they are removed
+        String[] removed = null;
+        int count = 0;
+        for (String key : current.keySet()) {
+            if (!next.containsKey(key)) {
+                if (removed == null) {
+                    removed = new String[current.size()];
+                }
+                removed[count++] = key;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            MDC.remove(removed[i]);
+        }
+        for (Map.Entry<String, Object> entry : next.entrySet()) {
+            final Object value = entry.getValue();
+            if (!Objects.equals(value, current.get(entry.getKey()))) {
+                MDC.put(entry.getKey(), value);
+            }
+        }
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Marker;
+
+/**
+ * A {@link Marker} which caches the {@linkplain MarkerLevels marker level} bits of itself and its references. The
+ * semantics are otherwise the same as the SLF4J {@link org.slf4j.helpers.BasicMarker}.
+ */
+final class JBossMarker implements Marker {
+    private static final long serialVersionUID = 6310327553296417245L;
+
+    private static final String OPEN = "[ ";
+    private static final String CLOSE = " ]";
+    private static final String SEP = ", ";
+
+    private final String name;
+    private final List<Marker> referenceList = new CopyOnWriteArrayList<>();
+    private final int bit;
+    // the generation in the upper 32 bits and the mask in the lower 32 bits
+    private transient volatile long maskState;
+
+    JBossMarker(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("A marker name cannot be null");
+        }
+        this.name = name;
+        this.bit = MarkerLevels.bit(name);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void add(final Marker reference) {
+        if (reference == null) {
+            throw new IllegalArgumentException("A null value cannot be added to a Marker as reference.");
+        }
+        // no point in adding the reference multiple times and a reference cannot hold its parent
+        if (!contains(reference) && !reference.contains(this)) {
+            referenceList.add(reference);
+            if (MarkerLevels.ENABLED) {
+                MarkerLevels.invalidate();
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(final Marker reference) {
+        if (referenceList.remove(reference)) {
+            if (MarkerLevels.ENABLED) {
+                MarkerLevels.invalidate();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    @Deprecated
+    public boolean hasChildren() {
+        return hasReferences();
+    }
+
+    @Override
+    public boolean hasReferences() {
+        return !referenceList.isEmpty();
+    }
+
+    @Override
+    public Iterator<Marker> iterator() {
+        return referenceList.iterator();
+    }
+
+    @Override
+    public boolean contains(final Marker other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Other cannot be null");
+        }
+        if (equals(other)) {
+            return true;
+        }
+        for (Marker ref : referenceList) {
+            if (ref.contains(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Other cannot be null");
+        }
+        if (this.name.equals(name)) {
+            return true;
+        }
+        for (Marker ref : referenceList) {
+            if (ref.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the bits of this marker and all of its references.
+     *
+     * @return the mask for this marker
+     */
+    int mask() {
+        // read the generation first so a change which races with computing the mask is not lost
+        final int generation = MarkerLevels.generation();
+        final long state = maskState;
+        if ((int) (state >>> 32) == generation) {
+            return (int) state;
+        }
+        int mask = bit;
+        for (Marker ref : referenceList) {
+            mask |= MarkerLevels.mask(ref);
+        }
+        maskState = ((long) generation << 32) | (mask & 0xFFFFFFFFL);
+        return mask;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Marker)) {
+            return false;
+        }
+        return name.equals(((Marker) obj).getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (!hasReferences()) {
+            return name;
+        }
+        final StringBuilder sb = new StringBuilder(name).append(' ').append(OPEN);
+        final Iterator<Marker> it = referenceList.iterator();
+        while (it.hasNext()) {
+            sb.append(it.next().getName());
+            if (it.hasNext()) {
+                sb.append(SEP);
+            }
+        }
+        return sb.append(CLOSE).toString();
+    }
+}
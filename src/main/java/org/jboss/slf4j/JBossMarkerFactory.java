@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Marker;
+
+/**
+ * A marker factory which creates markers that can be checked against the {@linkplain MarkerLevels marker levels}
+ * with a single bitwise test.
+ */
+public class JBossMarkerFactory implements IMarkerFactory {
+
+    private final ConcurrentMap<String, Marker> markerMap = new ConcurrentHashMap<>();
+
+    @Override
+    public Marker getMarker(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Marker name cannot be null");
+        }
+        final Marker marker = markerMap.get(name);
+        if (marker != null) {
+            return marker;
+        }
+        return markerMap.computeIfAbsent(name, JBossMarker::new);
+    }
+
+    @Override
+    public boolean exists(final String name) {
+        return name != null && markerMap.containsKey(name);
+    }
+
+    @Override
+    public boolean detachMarker(final String name) {
+        return name != null && markerMap.remove(name) != null;
+    }
+
+    @Override
+    public Marker getDetachedMarker(final String name) {
+        return new JBossMarker(name);
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+/**
+ * Formats SLF4J {@code {}} patterns producing the same output as {@link org.slf4j.helpers.MessageFormatter}.
+ * <p>
+ * Unlike the SLF4J formatter no {@link org.slf4j.helpers.FormattingTuple} is created and the arguments are never copied.
+ * A trailing throwable is excluded by passing a smaller argument count. The pattern is looked up in the
+ * {@link MessageTemplate} cache, so formatting is a copy of the literal segments and the arguments into a buffer which
+ * is reused by the current thread. The only allocation is the resulting string.
+ * </p>
+ */
+final class JBossMessageFormatter {
+    private static final char DELIM_START = '{';
+
+    // buffers which grew larger than this are not kept for the thread
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private JBossMessageFormatter() {
+    }
+
+    /**
+     * Returns the last argument if it's a throwable.
+     *
+     * @param arguments the arguments, may be {@code null}
+     *
+     * @return the trailing throwable or {@code null}
+     */
+    static Throwable getThrowableCandidate(final Object[] arguments) {
+        if (arguments == null || arguments.length == 0) {
+            return null;
+        }
+        final Object last = arguments[arguments.length - 1];
+        return last instanceof Throwable ? (Throwable) last : null;
+    }
+
+    /**
+     * Returns the number of arguments which should be formatted into the message, which excludes a trailing throwable.
+     *
+     * @param arguments the arguments, may be {@code null}
+     *
+     * @return the number of arguments to format
+     */
+    static int argumentCount(final Object[] arguments) {
+        if (arguments == null) {
+            return 0;
+        }
+        return getThrowableCandidate(arguments) == null ? arguments.length : arguments.length - 1;
+    }
+
+    static String format(final String pattern, final Object arg) {
+        return format(pattern, arg, null, null, 1);
+    }
+
+    static String format(final String pattern, final Object arg1, final Object arg2) {
+        return format(pattern, arg1, arg2, null, 2);
+    }
+
+    /**
+     * Formats the pattern with the first {@code count} arguments.
+     *
+     * @param pattern   the pattern
+     * @param arguments the arguments
+     * @param count     the number of arguments to format
+     *
+     * @return the formatted message
+     */
+    static String format(final String pattern, final Object[] arguments, final int count) {
+        return format(pattern, null, null, arguments, count);
+    }
+
+    private static String format(final String pattern, final Object arg1, final Object arg2, final Object[] arguments,
+            final int count) {
+        if (pattern == null) {
+            return null;
+        }
+        if (count == 0) {
+            return pattern;
+        }
+        final MessageTemplate template = MessageTemplate.of(pattern);
+        if (template.anchors() == 0) {
+            return pattern;
+        }
+        final Buffer buffer = BUFFER.get();
+        if (buffer.inUse) {
+            // an argument's toString() is logging, don't clobber the outer message
+            final StringBuilder builder = new StringBuilder(pattern.length() + 50);
+            formatTo(builder, template, arg1, arg2, arguments, count);
+            return builder.toString();
+        }
+        buffer.inUse = true;
+        try {
+            final StringBuilder builder = buffer.builder;
+            formatTo(builder, template, arg1, arg2, arguments, count);
+            return builder.toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Formats the pattern with primitive arguments, which are written to the buffer without being boxed.
+     *
+     * @param pattern the pattern
+     * @param count   the number of arguments, one or two
+     * @param kind1   the {@linkplain PrimitiveMessage kind} of the first argument
+     * @param value1  the first argument encoded as a {@code long}
+     * @param kind2   the kind of the second argument
+     * @param value2  the second argument encoded as a {@code long}
+     *
+     * @return the formatted message
+     */
+    static String format(final String pattern, final int count, final int kind1, final long value1, final int kind2,
+            final long value2) {
+        if (pattern == null) {
+            return null;
+        }
+        final MessageTemplate template = MessageTemplate.of(pattern);
+        if (template.anchors() == 0) {
+            return pattern;
+        }
+        final Buffer buffer = BUFFER.get();
+        if (buffer.inUse) {
+            final StringBuilder builder = new StringBuilder(pattern.length() + 50);
+            formatTo(builder, template, count, kind1, value1, kind2, value2);
+            return builder.toString();
+        }
+        buffer.inUse = true;
+        try {
+            final StringBuilder builder = buffer.builder;
+            formatTo(builder, template, count, kind1, value1, kind2, value2);
+            return builder.toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static void formatTo(final StringBuilder builder, final MessageTemplate template, final int count,
+            final int kind1, final long value1, final int kind2, final long value2) {
+        final String pattern = template.pattern;
+        final int[] segments = template.segments;
+        final boolean[] escaped = template.escaped;
+        final int anchors = escaped.length;
+        int anchor = 0;
+        int index = 0;
+        for (; anchor < anchors && index < count; anchor++) {
+            builder.append(pattern, segments[anchor << 1], segments[(anchor << 1) + 1]);
+            if (escaped[anchor]) {
+                builder.append(DELIM_START);
+            } else if (index++ == 0) {
+                appendPrimitive(builder, kind1, value1);
+            } else {
+                appendPrimitive(builder, kind2, value2);
+            }
+        }
+        builder.append(pattern, anchor < anchors ? segments[anchor << 1] : template.tail, pattern.length());
+    }
+
+    private static void appendPrimitive(final StringBuilder builder, final int kind, final long value) {
+        switch (kind) {
+            case PrimitiveMessage.INT:
+                builder.append((int) value);
+                break;
+            case PrimitiveMessage.LONG:
+                builder.append(value);
+                break;
+            case PrimitiveMessage.DOUBLE:
+                builder.append(Double.longBitsToDouble(value));
+                break;
+            case PrimitiveMessage.FLOAT:
+                builder.append(Float.intBitsToFloat((int) value));
+                break;
+            case PrimitiveMessage.CHAR:
+                builder.append((char) value);
+                break;
+            default:
+                builder.append(value != 0L);
+        }
+    }
+
+    private static void formatTo(final StringBuilder builder, final MessageTemplate template, final Object arg1,
+            final Object arg2, final Object[] arguments, final int count) {
+        final String pattern = template.pattern;
+        final int[] segments = template.segments;
+        final boolean[] escaped = template.escaped;
+        final int anchors = escaped.length;
+        int anchor = 0;
+        int index = 0;
+        // once the arguments run out the remaining text, including any escapes, is copied as is
+        for (; anchor < anchors && index < count; anchor++) {
+            builder.append(pattern, segments[anchor << 1], segments[(anchor << 1) + 1]);
+            if (escaped[anchor]) {
+                builder.append(DELIM_START);
+            } else {
+                appendParameter(builder, argument(arg1, arg2, arguments, index++), null);
+            }
+        }
+        builder.append(pattern, anchor < anchors ? segments[anchor << 1] : template.tail, pattern.length());
+    }
+
+    private static Object argument(final Object arg1, final Object arg2, final Object[] arguments, final int index) {
+        if (arguments != null) {
+            return arguments[index];
+        }
+        return index == 0 ? arg1 : arg2;
+    }
+
+    private static void appendParameter(final StringBuilder builder, final Object o, final Seen seen) {
+        if (o == null) {
+            builder.append("null");
+        } else if (!o.getClass().isArray()) {
+            safeObjectAppend(builder, o);
+        } else if (o instanceof Object[]) {
+            objectArrayAppend(builder, (Object[]) o, seen);
+        } else if (o instanceof boolean[]) {
+            final boolean[] a = (boolean[]) o;
+            builder.append('[');
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(a[i]);
+            }
+            builder.append(']');
+        } else if (o instanceof byte[]) {
+            final byte[] a = (byte[]) o;
+            builder.append('[');
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(a[i]);
+            }
+            builder.append(']');
+        } else if (o instanceof char[]) {
+            final char[] a = (char[]) o;
+            builder.append('[');
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(a[i]);
+            }
+            builder.append(']');
+        } else if (o instanceof short[]) {
+            final short[] a = (short[]) o;
+            builder.append('[');
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(a[i]);
+            }
+            builder.append(']');
+        } else if (o instanceof int[]) {
+            final int[] a = (int[]) o;
+            builder.append('[');
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(a[i]);
+            }
+            builder.append(']');
+        } else if (o instanceof long[]) {
+            final long[] a = (long[]) o;
+            builder.append('[');
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(a[i]);
+            }
+            builder.append(']');
+        } else if (o instanceof float[]) {
+            final float[] a = (float[]) o;
+            builder.append('[');
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(a[i]);
+            }
+            builder.append(']');
+        } else {
+            final double[] a = (double[]) o;
+            builder.append('[');
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(a[i]);
+            }
+            builder.append(']');
+        }
+    }
+
+    private static void safeObjectAppend(final StringBuilder builder, final Object o) {
+        try {
+            builder.append(o.toString());
+        } catch (Throwable t) {
+            InternalReporter.error(
+                    "Failed toString() invocation on an object of type [" + o.getClass().getName() + "]", t);
+            builder.append("[FAILED toString()]");
+        }
+    }
+
+    private static void objectArrayAppend(final StringBuilder builder, final Object[] a, final Seen seen) {
+        builder.append('[');
+        if (Seen.contains(seen, a)) {
+            builder.append("...");
+        } else {
+            // only the enclosing arrays are tracked which allows repeats in siblings
+            final Seen current = new Seen(a, seen);
+            for (int i = 0; i < a.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                appendParameter(builder, a[i], current);
+            }
+        }
+        builder.append(']');
+    }
+
+    /**
+     * The object arrays enclosing the current argument, used to detect self-referencing arrays.
+     */
+    private static final class Seen {
+        private final Object[] array;
+        private final Seen parent;
+
+        private Seen(final Object[] array, final Seen parent) {
+            this.array = array;
+            this.parent = parent;
+        }
+
+        static boolean contains(final Seen seen, final Object[] array) {
+            for (Seen current = seen; current != null; current = current.parent) {
+                if (current.array == array) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Buffer {
+        private StringBuilder builder = new StringBuilder(256);
+        private boolean inUse;
+
+        void release() {
+            if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+                builder = new StringBuilder(256);
+            } else {
+                builder.setLength(0);
+            }
+            inUse = false;
+        }
+    }
+}
@@ -20,7 +20,6 @@ package org.jboss.slf4j;
 
 import org.slf4j.ILoggerFactory;
 import org.slf4j.IMarkerFactory;
-import org.slf4j.helpers.BasicMarkerFactory;
 import org.slf4j.spi.MDCAdapter;
 import org.slf4j.spi.SLF4JServiceProvider;
 
@@ -35,8 +34,14 @@ public class JBossSlf4jServiceProvider implements SLF4JServiceProvider {
 
     public JBossSlf4jServiceProvider() {
         this.loggerFactory = new JBossLoggerFactory();
-        this.markerFactory = new BasicMarkerFactory();
-        this.mdcAdapter = new JBossMDCAdapter();
+        this.markerFactory = new JBossMarkerFactory();
+        if (ScopedMDCAdapter.ENABLED) {
+            this.mdcAdapter = new ScopedMDCAdapter();
+        } else if (PersistentMDCAdapter.ENABLED) {
+            this.mdcAdapter = new PersistentMDCAdapter();
+        } else {
+            this.mdcAdapter = new JBossMDCAdapter();
+        }
     }
 
     @Override
@@ -61,6 +66,6 @@ public class JBossSlf4jServiceProvider implements SLF4JServiceProvider {
 
     @Override
     public void initialize() {
-        // do nothing
+        LoggerMetrics.register();
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogManager;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
+
+/**
+ * Supports caching the effective level of each {@link JBossLoggerAdapter} which is enabled with the
+ * {@value #ENABLED_PROPERTY} system property.
+ * <p>
+ * Each adapter stores the generation the level was computed in along with the number of enabled levels in a single
+ * {@code int}. When the log manager is reconfigured the global generation is incremented, which invalidates every
+ * cached level at once. The generation is incremented when the {@linkplain LogManager JUL log manager} reads its
+ * configuration, any other changes must be followed by a call to {@link JBossLoggerFactory#invalidateLevelCache()}.
+ * </p>
+ */
+final class LevelCache {
+    static final String ENABLED_PROPERTY = "org.jboss.slf4j.level.cache";
+    static final boolean ENABLED = Boolean.parseBoolean(SecurityActions.getSystemProperty(ENABLED_PROPERTY));
+
+    private static final int LEVEL_BITS = 3;
+    private static final int LEVEL_MASK = (1 << LEVEL_BITS) - 1;
+    private static final int GENERATION_MASK = -1 >>> LEVEL_BITS;
+    // ordered from the least to the most verbose
+    private static final Level[] LEVELS = Level.values();
+    // a generation of 0 is never used so the initial state of an adapter is always stale
+    private static final AtomicInteger GENERATION = new AtomicInteger(1);
+
+    static {
+        if (ENABLED) {
+            try {
+                LogManager.getLogManager().addConfigurationListener(LevelCache::invalidate);
+            } catch (SecurityException ignore) {
+                // the cache must be invalidated manually
+            }
+        }
+    }
+
+    private LevelCache() {
+    }
+
+    /**
+     * Returns the current generation.
+     *
+     * @return the current generation
+     */
+    static int generation() {
+        return GENERATION.get() & GENERATION_MASK;
+    }
+
+    /**
+     * Returns the generation the state was computed in.
+     *
+     * @param state the cached state
+     *
+     * @return the generation of the state
+     */
+    static int generation(final int state) {
+        return state >>> LEVEL_BITS;
+    }
+
+    /**
+     * Checks the cached state to see if the level is enabled.
+     *
+     * @param state the cached state
+     * @param level the level to check
+     *
+     * @return {@code true} if the level is enabled
+     */
+    static boolean isEnabled(final int state, final Level level) {
+        return level.ordinal() < (state & LEVEL_MASK);
+    }
+
+    /**
+     * Computes the state for the logger in the given generation.
+     *
+     * @param generation the current generation
+     * @param logger     the logger to compute the effective level for
+     *
+     * @return the new state
+     */
+    static int state(final int generation, final Logger logger) {
+        int enabled = 0;
+        // levels are checked from the most verbose as the lowest enabled level enables all the levels above it
+        for (int i = LEVELS.length - 1; i >= 0; i--) {
+            if (logger.isEnabled(LEVELS[i])) {
+                enabled = i + 1;
+                break;
+            }
+        }
+        return (generation << LEVEL_BITS) | enabled;
+    }
+
+    /**
+     * Invalidates the levels cached by all the adapters.
+     */
+    static void invalidate() {
+        int next;
+        do {
+            next = GENERATION.incrementAndGet();
+        } while ((next & GENERATION_MASK) == 0);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
+
+/**
+ * Sheds {@code TRACE}, {@code DEBUG} and then {@code INFO} events while logging falls behind. Enabled with the
+ * {@value #BUDGET_PROPERTY} system property, the latency budget of a call to the log manager in microseconds.
+ * <p>
+ * One in {@value #SAMPLE_RATE_PROPERTY} calls to the log manager is timed and folded into a moving average. While the
+ * average exceeds the budget the threshold is raised by one level each {@value #INTERVAL_PROPERTY} milliseconds, up to
+ * and including {@code INFO}. Once the average falls below the {@value #RECOVERY_PROPERTY} budget, by default half of
+ * the budget, the threshold is lowered by one level each interval. While events are shed every call is timed and one
+ * shed event per interval is let through as a probe, so recovery is detected even when few events are logged. Each
+ * change of the threshold is logged as a warning.
+ * </p>
+ * <p>
+ * Shed levels are reported as disabled by the {@code isXxxEnabled()} methods, so callers skip building the message.
+ * Only the logging methods take the probe, so a caller which checks the level first never logs a shed event.
+ * </p>
+ */
+final class LoadShedder {
+    static final String BUDGET_PROPERTY = "org.jboss.slf4j.shed.budget";
+    static final String RECOVERY_PROPERTY = "org.jboss.slf4j.shed.recovery.budget";
+    static final String INTERVAL_PROPERTY = "org.jboss.slf4j.shed.interval";
+    static final String SAMPLE_RATE_PROPERTY = "org.jboss.slf4j.shed.sample.rate";
+
+    private static final Level[] LEVELS = Level.values();
+    // the threshold when nothing is shed, no level has an ordinal this large
+    private static final int NONE = LEVELS.length;
+    // the most severe level which is shed
+    private static final int MAX_SHED = Level.INFO.ordinal();
+    private static final Logger LOGGER = Logger.getLogger(LoadShedder.class.getName());
+
+    /**
+     * Indicates whether load shedding has been enabled.
+     */
+    static final boolean ENABLED;
+
+    /**
+     * The shedder used by all the adapters or {@code null} if load shedding is not enabled.
+     */
+    static final LoadShedder INSTANCE;
+
+    static {
+        final int budget = SecurityActions.getIntSystemProperty(BUDGET_PROPERTY, 0);
+        if (budget > 0) {
+            final int recovery = SecurityActions.getIntSystemProperty(RECOVERY_PROPERTY, budget / 2);
+            final int interval = SecurityActions.getIntSystemProperty(INTERVAL_PROPERTY, 1000);
+            final int sampleRate = SecurityActions.getIntSystemProperty(SAMPLE_RATE_PROPERTY, 64);
+            INSTANCE = new LoadShedder(TimeUnit.MICROSECONDS.toNanos(budget),
+                    TimeUnit.MICROSECONDS.toNanos(Math.min(recovery, budget)), TimeUnit.MILLISECONDS.toNanos(interval),
+                    sampleRate);
+        } else {
+            INSTANCE = null;
+        }
+        ENABLED = INSTANCE != null;
+    }
+
+    private final long budget;
+    private final long recovery;
+    private final long interval;
+    private final int sampleRate;
+    private final AtomicLong lastProbe = new AtomicLong();
+    private final AtomicLong average = new AtomicLong();
+    private final AtomicLong lastChange = new AtomicLong();
+    // levels with an ordinal of at least the threshold are shed, only written by the thread which claimed the interval
+    private volatile int threshold = NONE;
+
+    LoadShedder(final long budget, final long recovery, final long interval, final int sampleRate) {
+        this.budget = budget;
+        this.recovery = recovery;
+        this.interval = interval;
+        this.sampleRate = Math.max(1, sampleRate);
+        final long now = System.nanoTime();
+        lastChange.set(now - interval);
+        lastProbe.set(now);
+    }
+
+    /**
+     * Checks whether events at the level are currently shed. This only reads the threshold, an event which is about
+     * to be logged may still be let through as a {@linkplain #tryProbe() probe}.
+     *
+     * @param level the level of the event
+     *
+     * @return {@code true} if the event should not be logged
+     */
+    boolean isShed(final Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    /**
+     * Lets a single shed event per interval through so the latency is still measured. Only invoked when an event is
+     * logged, never when a level is queried.
+     *
+     * @return {@code true} if the event should be logged
+     */
+    boolean tryProbe() {
+        final long now = System.nanoTime();
+        final long last = lastProbe.get();
+        return now - last >= interval && lastProbe.compareAndSet(last, now);
+    }
+
+    /**
+     * Decides whether the next call to the log manager is timed.
+     *
+     * @return {@code true} if the call should be timed and {@linkplain #record(long) recorded}
+     */
+    boolean shouldMeasure() {
+        return threshold != NONE || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    /**
+     * Records the duration of a call to the log manager and adjusts the threshold if required.
+     *
+     * @param nanos the duration of the call
+     */
+    void record(final long nanos) {
+        // an exponentially weighted moving average with a weight of 1/8 for the new sample
+        long previousAverage;
+        long average;
+        do {
+            previousAverage = this.average.get();
+            average = previousAverage + ((nanos - previousAverage) >> 3);
+        } while (!this.average.compareAndSet(previousAverage, average));
+        final long now = System.nanoTime();
+        final long last = lastChange.get();
+        if (now - last < interval) {
+            return;
+        }
+        final int previous = threshold;
+        final int current;
+        if (average > budget && previous > MAX_SHED) {
+            current = previous - 1;
+        } else if (average < recovery && previous < NONE) {
+            current = previous + 1;
+        } else {
+            return;
+        }
+        // a thread which changed the threshold since it was read has also moved the last change, so this fails
+        if (!lastChange.compareAndSet(last, now)) {
+            return;
+        }
+        threshold = current;
+        final long micros = TimeUnit.NANOSECONDS.toMicros(average);
+        if (current < previous) {
+            LOGGER.warnf("Logging is falling behind, the average latency of %dus exceeds the budget of %dus. "
+                    + "Discarding %s and less severe events.", micros, TimeUnit.NANOSECONDS.toMicros(budget),
+                    LEVELS[current]);
+        } else if (current == NONE) {
+            LOGGER.warnf("Logging has recovered with an average latency of %dus, no events are discarded.", micros);
+        } else {
+            LOGGER.warnf("Logging is recovering with an average latency of %dus. Discarding %s and less severe events.",
+                    micros, LEVELS[current]);
+        }
+    }
+
+    /**
+     * Returns the most severe level which is currently shed.
+     *
+     * @return the level or {@code null} if no events are shed
+     */
+    Level getShedLevel() {
+        final int threshold = this.threshold;
+        return threshold == NONE ? null : LEVELS[threshold];
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import org.jboss.logging.Logger.Level;
+
+/**
+ * Collects events of a single level and logs them together. Created with
+ * {@link JBossLoggerAdapter#batch(org.slf4j.event.Level)}.
+ * <p>
+ * The level is checked when the batch is created and again each time it is submitted. While the level is disabled the
+ * events added are discarded without formatting or copying anything, and events added before the level was disabled
+ * are discarded when the batch is submitted. Sampling is decided once for the whole batch and the {@code MDC} of the
+ * thread which submits the batch applies to every event. With the {@linkplain AsyncDispatcher asynchronous mode}
+ * the batch claims its slots in the buffer at once, so the events are handed off with a single contended operation
+ * and the handlers are only locked by the background thread. Otherwise each event is still passed to the log manager
+ * by its own call, as JBoss Logging cannot log several records at once, and the batch only saves the steps before.
+ * </p>
+ * <p>
+ * The arguments are referenced until the batch is submitted, so they must not be changed before then. A batch is not
+ * thread-safe, it may be reused once it has been submitted.
+ * </p>
+ *
+ * <pre>{@code
+ * final LogBatch batch = ((JBossLoggerAdapter) logger).batch(Level.DEBUG);
+ * for (Row row : partition) {
+ *     batch.add("Wrote row {} to {}", row.id(), partition.name());
+ * }
+ * batch.submit();
+ * }</pre>
+ */
+public final class LogBatch {
+    private static final String FQCN = LogBatch.class.getName();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final JBossLoggerAdapter adapter;
+    private final Level level;
+    private boolean enabled;
+
+    private Object[] messages;
+    private Throwable[] thrown;
+    private int size;
+
+    LogBatch(final JBossLoggerAdapter adapter, final Level level, final boolean enabled) {
+        this.adapter = adapter;
+        this.level = level;
+        setEnabled(enabled);
+    }
+
+    /**
+     * Indicates whether the level of the batch was enabled when it was created or last submitted. If not, the events
+     * added are discarded.
+     *
+     * @return {@code true} if the events will be logged
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of events added since the batch was created or last submitted.
+     *
+     * @return the number of events
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a message.
+     *
+     * @param msg the message
+     *
+     * @return this batch
+     */
+    public LogBatch add(final String msg) {
+        if (enabled) {
+            append(msg, null);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a message with a cause.
+     *
+     * @param msg the message
+     * @param t   the cause
+     *
+     * @return this batch
+     */
+    public LogBatch add(final String msg, final Throwable t) {
+        if (enabled) {
+            append(msg, t);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a message formatted with one argument. If the argument is a {@link Throwable} it is the cause.
+     *
+     * @param format the SLF4J pattern
+     * @param arg    the argument
+     *
+     * @return this batch
+     */
+    public LogBatch add(final String format, final Object arg) {
+        if (enabled) {
+            if (arg instanceof Throwable) {
+                append(format, (Throwable) arg);
+            } else {
+                append(DeferredMessage.of(format, arg), null);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds a message formatted with two arguments. If the last argument is a {@link Throwable} it is the cause.
+     *
+     * @param format the SLF4J pattern
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     *
+     * @return this batch
+     */
+    public LogBatch add(final String format, final Object arg1, final Object arg2) {
+        if (enabled) {
+            if (arg2 instanceof Throwable) {
+                append(DeferredMessage.of(format, arg1), (Throwable) arg2);
+            } else {
+                append(DeferredMessage.of(format, arg1, arg2), null);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds a message formatted with the arguments. If the last argument is a {@link Throwable} it is the cause.
+     *
+     * @param format    the SLF4J pattern
+     * @param arguments the arguments
+     *
+     * @return this batch
+     */
+    public LogBatch add(final String format, final Object... arguments) {
+        if (enabled) {
+            append(DeferredMessage.of(format, arguments, JBossMessageFormatter.argumentCount(arguments)),
+                    JBossMessageFormatter.getThrowableCandidate(arguments));
+        }
+        return this;
+    }
+
+    /**
+     * Logs the events which have been added and empties the batch. The caller of this method is the caller of the
+     * events. The level is checked again for the events which are added next.
+     */
+    public void submit() {
+        if (size > 0) {
+            try {
+                adapter.logAll(level, FQCN, this);
+            } finally {
+                clear();
+            }
+        }
+        setEnabled(adapter.isEnabled(level));
+    }
+
+    Object[] messages() {
+        return messages;
+    }
+
+    Throwable[] thrown() {
+        return thrown;
+    }
+
+    /**
+     * Removes the events which do not match, keeping the order of the remaining events.
+     *
+     * @param filter the filter invoked with the index of each event
+     *
+     * @return the number of events removed
+     */
+    int retain(final IntPredicate filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(i)) {
+                messages[kept] = messages[i];
+                thrown[kept] = thrown[i];
+                kept++;
+            }
+        }
+        final int removed = size - kept;
+        Arrays.fill(messages, kept, size, null);
+        Arrays.fill(thrown, kept, size, null);
+        size = kept;
+        return removed;
+    }
+
+    private void append(final Object message, final Throwable t) {
+        if (size == messages.length) {
+            messages = Arrays.copyOf(messages, size << 1);
+            thrown = Arrays.copyOf(thrown, size << 1);
+        }
+        messages[size] = message;
+        thrown[size] = t;
+        size++;
+    }
+
+    private void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        if (enabled && messages == null) {
+            messages = new Object[INITIAL_CAPACITY];
+            thrown = new Throwable[INITIAL_CAPACITY];
+        }
+    }
+
+    private void clear() {
+        Arrays.fill(messages, 0, size, null);
+        Arrays.fill(thrown, 0, size, null);
+        size = 0;
+    }
+}
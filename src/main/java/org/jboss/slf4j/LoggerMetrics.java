@@ -0,0 +1,250 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.jboss.logging.Logger.Level;
+
+/**
+ * The counts of events of a logger. Enabled with the {@value #ENABLED_PROPERTY} system property, when disabled an
+ * adapter does not have metrics and the checks are removed by the compiler.
+ * <p>
+ * Events passed to the log manager and events rejected are counted per level with a {@link LongAdder}, so threads
+ * logging to the same logger do not contend. One in {@value #SAMPLE_RATE_PROPERTY} events passed to the log manager
+ * is timed, the time taken to format the message and the time taken by the log manager are kept separately.
+ * </p>
+ */
+final class LoggerMetrics {
+    static final String ENABLED_PROPERTY = "org.jboss.slf4j.metrics";
+    static final String SAMPLE_RATE_PROPERTY = "org.jboss.slf4j.metrics.sample.rate";
+    static final boolean ENABLED = Boolean.parseBoolean(SecurityActions.getSystemProperty(ENABLED_PROPERTY));
+
+    private static final Level[] LEVELS = Level.values();
+    private static final int SAMPLE_RATE = Math.max(1, SecurityActions.getIntSystemProperty(SAMPLE_RATE_PROPERTY, 64));
+    private static final ConcurrentMap<String, LoggerMetrics> LOGGERS = new ConcurrentHashMap<>();
+    private static final LongAdder FORMAT_NANOS = new LongAdder();
+    private static final LongAdder FORMAT_SAMPLES = new LongAdder();
+    private static final LongAdder DELEGATE_NANOS = new LongAdder();
+    private static final LongAdder DELEGATE_SAMPLES = new LongAdder();
+    private static boolean registered;
+
+    final String name;
+    private final LongAdder[] emitted = counters();
+    private final LongAdder[] rejected = counters();
+
+    private LoggerMetrics(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the metrics of a logger.
+     *
+     * @param name the name of the logger
+     *
+     * @return the metrics or {@code null} if metrics are not enabled
+     */
+    static LoggerMetrics of(final String name) {
+        return ENABLED ? LOGGERS.computeIfAbsent(name, LoggerMetrics::new) : null;
+    }
+
+    /**
+     * Registers the {@link LoggingMetricsMXBean} with the platform MBean server if metrics are enabled and it has not
+     * already been registered.
+     */
+    static synchronized void register() {
+        if (!ENABLED || registered) {
+            return;
+        }
+        registered = true;
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(LoggingMetricsMXBean.OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new Bean(), name);
+            }
+        } catch (Exception | LinkageError e) {
+            // the java.management module may not be present
+            InternalReporter.error("Failed to register the logging metrics as " + LoggingMetricsMXBean.OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Checks whether the next event passed to the log manager is timed.
+     *
+     * @return {@code true} to time the event
+     */
+    static boolean shouldTime() {
+        return ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+    }
+
+    static void recordFormat(final long nanos) {
+        FORMAT_NANOS.add(nanos);
+        FORMAT_SAMPLES.increment();
+    }
+
+    static void recordDelegate(final long nanos) {
+        DELEGATE_NANOS.add(nanos);
+        DELEGATE_SAMPLES.increment();
+    }
+
+    void emitted(final Level level) {
+        emitted[level.ordinal()].increment();
+    }
+
+    void emitted(final Level level, final int count) {
+        emitted[level.ordinal()].add(count);
+    }
+
+    void rejected(final Level level) {
+        rejected[level.ordinal()].increment();
+    }
+
+    void rejected(final Level level, final int count) {
+        rejected[level.ordinal()].add(count);
+    }
+
+    long emittedCount() {
+        return sum(emitted);
+    }
+
+    long rejectedCount() {
+        return sum(rejected);
+    }
+
+    private static LongAdder[] counters() {
+        final LongAdder[] counters = new LongAdder[LEVELS.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private static long sum(final LongAdder[] counters) {
+        long sum = 0L;
+        for (LongAdder counter : counters) {
+            sum += counter.sum();
+        }
+        return sum;
+    }
+
+    private static double average(final LongAdder nanos, final LongAdder samples) {
+        final long count = samples.sum();
+        return count == 0L ? 0.0 : (double) nanos.sum() / count;
+    }
+
+    static final class Bean implements LoggingMetricsMXBean {
+
+        @Override
+        public long getEmittedCount() {
+            long sum = 0L;
+            for (LoggerMetrics metrics : LOGGERS.values()) {
+                sum += metrics.emittedCount();
+            }
+            return sum;
+        }
+
+        @Override
+        public long getRejectedCount() {
+            long sum = 0L;
+            for (LoggerMetrics metrics : LOGGERS.values()) {
+                sum += metrics.rejectedCount();
+            }
+            return sum;
+        }
+
+        @Override
+        public Map<String, Long> getEmittedCountByLevel() {
+            return byLevel(true);
+        }
+
+        @Override
+        public Map<String, Long> getRejectedCountByLevel() {
+            return byLevel(false);
+        }
+
+        @Override
+        public long getFormatSampleCount() {
+            return FORMAT_SAMPLES.sum();
+        }
+
+        @Override
+        public double getAverageFormatTime() {
+            return average(FORMAT_NANOS, FORMAT_SAMPLES);
+        }
+
+        @Override
+        public long getDelegateSampleCount() {
+            return DELEGATE_SAMPLES.sum();
+        }
+
+        @Override
+        public double getAverageDelegateTime() {
+            return average(DELEGATE_NANOS, DELEGATE_SAMPLES);
+        }
+
+        @Override
+        public String[] noisiestLoggers(final int count) {
+            return LOGGERS.values().stream()
+                    .map(metrics -> Map.entry(metrics.name, metrics.emittedCount()))
+                    .filter(entry -> entry.getValue() > 0L)
+                    .sorted(Map.Entry.<String, Long> comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(Math.max(0, count))
+                    .map(entry -> entry.getKey() + "=" + entry.getValue())
+                    .toArray(String[]::new);
+        }
+
+        @Override
+        public void reset() {
+            for (LoggerMetrics metrics : LOGGERS.values()) {
+                for (int i = 0; i < LEVELS.length; i++) {
+                    metrics.emitted[i].reset();
+                    metrics.rejected[i].reset();
+                }
+            }
+            FORMAT_NANOS.reset();
+            FORMAT_SAMPLES.reset();
+            DELEGATE_NANOS.reset();
+            DELEGATE_SAMPLES.reset();
+        }
+
+        private static Map<String, Long> byLevel(final boolean emitted) {
+            final Map<String, Long> result = new LinkedHashMap<>();
+            for (Level level : LEVELS) {
+                long sum = 0L;
+                for (LoggerMetrics metrics : LOGGERS.values()) {
+                    sum += (emitted ? metrics.emitted : metrics.rejected)[level.ordinal()].sum();
+                }
+                result.put(level.name(), sum);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.Map;
+
+/**
+ * The logging metrics registered as {@value #OBJECT_NAME} when the {@code org.jboss.slf4j.metrics} system property is
+ * {@code true}.
+ */
+public interface LoggingMetricsMXBean {
+
+    /**
+     * The name the metrics are registered with.
+     */
+    String OBJECT_NAME = "org.jboss.slf4j:type=LoggingMetrics";
+
+    /**
+     * Returns the number of events passed to the log manager.
+     *
+     * @return the number of events
+     */
+    long getEmittedCount();
+
+    /**
+     * Returns the number of events rejected by a level check, sampling or rate limiting. Only the logging methods
+     * count a rejected level, levels queried with the {@code isXxxEnabled()} methods are not counted.
+     *
+     * @return the number of events
+     */
+    long getRejectedCount();
+
+    /**
+     * Returns the number of events passed to the log manager for each level.
+     *
+     * @return the number of events keyed by the name of the level
+     */
+    Map<String, Long> getEmittedCountByLevel();
+
+    /**
+     * Returns the number of events rejected for each level.
+     *
+     * @return the number of events keyed by the name of the level
+     */
+    Map<String, Long> getRejectedCountByLevel();
+
+    /**
+     * Returns the number of times formatting a message has been timed.
+     *
+     * @return the number of samples
+     */
+    long getFormatSampleCount();
+
+    /**
+     * Returns the average time taken to format a message.
+     *
+     * @return the average in nanoseconds
+     */
+    double getAverageFormatTime();
+
+    /**
+     * Returns the number of times a call to the log manager has been timed.
+     *
+     * @return the number of samples
+     */
+    long getDelegateSampleCount();
+
+    /**
+     * Returns the average time taken by a call to the log manager.
+     *
+     * @return the average in nanoseconds
+     */
+    double getAverageDelegateTime();
+
+    /**
+     * Returns the loggers which have passed the most events to the log manager.
+     *
+     * @param count the maximum number of loggers to return
+     *
+     * @return the loggers, most events first, in the form {@code name=count}
+     */
+    String[] noisiestLoggers(int count);
+
+    /**
+     * Resets all counts.
+     */
+    void reset();
+}
@@ -0,0 +1,192 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger.Level;
+import org.slf4j.Marker;
+
+/**
+ * Per-marker level overrides which are configured with the {@value #PROPERTY} system property. The value is a comma
+ * separated list of {@code NAME=LEVEL} pairs where the level is one of {@code TRACE}, {@code DEBUG}, {@code INFO},
+ * {@code WARN}, {@code ERROR} or {@code OFF}. The name {@value #UNMARKED} sets the level for events which do not have a
+ * marker with an override.
+ * <p>
+ * Each marker name with an override is assigned a bit. A {@link JBossMarker} caches the bits of itself and all of its
+ * references in a mask, so checking a marker is a single bitwise test against the mask of the markers enabled at the
+ * level. The cached masks are invalidated whenever a reference is added to or removed from any marker.
+ * </p>
+ * <p>
+ * An event with an override is logged if any of its markers allow the level and the logger is also enabled for the
+ * level, so an override on its own can only quiet a marker. To log a marker below the level of a logger, the level of
+ * the logger must be lowered and {@value #UNMARKED} used to keep the events without an override at the previous level.
+ * </p>
+ */
+final class MarkerLevels {
+    static final String PROPERTY = "org.jboss.slf4j.marker.levels";
+    static final String UNMARKED = "*";
+
+    private static final int MAX_MARKERS = Integer.SIZE;
+    private static final int OFF = -1;
+
+    private static final Map<String, Integer> BITS = new HashMap<>();
+    // the markers which allow the level, indexed by the level ordinal
+    private static final int[] ENABLED_AT = new int[Level.values().length];
+    // a generation of 0 is never used so the initial state of a marker is always stale
+    private static final AtomicInteger GENERATION = new AtomicInteger(1);
+
+    /**
+     * Indicates whether any marker overrides have been configured.
+     */
+    static final boolean ENABLED;
+    /**
+     * Indicates whether the level of events without a marker override has been configured.
+     */
+    static final boolean UNMARKED_ENABLED;
+    private static final int UNMARKED_LEVEL;
+
+    static {
+        int unmarked = Integer.MAX_VALUE;
+        final String value = SecurityActions.getSystemProperty(PROPERTY);
+        if (value != null) {
+            for (String rule : value.split(",")) {
+                if (rule.isBlank()) {
+                    continue;
+                }
+                final int index = rule.indexOf('=');
+                final String name = index < 0 ? rule.trim() : rule.substring(0, index).trim();
+                final int level = index < 0 ? Integer.MIN_VALUE : parseLevel(rule.substring(index + 1).trim());
+                if (name.isEmpty() || level == Integer.MIN_VALUE) {
+                    InternalReporter.warn("Ignoring invalid marker level \"" + rule.trim() + "\" in " + PROPERTY);
+                } else if (UNMARKED.equals(name)) {
+                    unmarked = level;
+                } else if (BITS.containsKey(name)) {
+                    InternalReporter.warn("Ignoring duplicate marker level \"" + rule.trim() + "\" in " + PROPERTY);
+                } else if (BITS.size() == MAX_MARKERS) {
+                    InternalReporter.warn("Only " + MAX_MARKERS + " marker levels can be defined, ignoring \""
+                            + rule.trim() + "\" in " + PROPERTY);
+                } else {
+                    final int bit = 1 << BITS.size();
+                    BITS.put(name, bit);
+                    // the marker allows its own level and every level which is more severe
+                    for (int i = 0; i <= level; i++) {
+                        ENABLED_AT[i] |= bit;
+                    }
+                }
+            }
+        }
+        UNMARKED_ENABLED = unmarked != Integer.MAX_VALUE;
+        UNMARKED_LEVEL = unmarked;
+        ENABLED = UNMARKED_ENABLED || !BITS.isEmpty();
+    }
+
+    private MarkerLevels() {
+    }
+
+    /**
+     * Returns the bit assigned to the marker name.
+     *
+     * @param name the name of the marker
+     *
+     * @return the bit for the marker or {@code 0} if the marker does not have an override
+     */
+    static int bit(final String name) {
+        final Integer bit = BITS.get(name);
+        return bit == null ? 0 : bit;
+    }
+
+    /**
+     * Returns the mask of the marker and all of its references.
+     *
+     * @param marker the marker
+     *
+     * @return the mask for the marker or {@code 0} if neither the marker or its references have an override
+     */
+    static int mask(final Marker marker) {
+        if (marker instanceof JBossMarker) {
+            return ((JBossMarker) marker).mask();
+        }
+        // markers from other factories cannot cache their mask and are checked by name
+        int mask = 0;
+        for (Map.Entry<String, Integer> entry : BITS.entrySet()) {
+            if (marker.contains(entry.getKey())) {
+                mask |= entry.getValue();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether any of the markers in the mask allow the level.
+     *
+     * @param mask  the mask of the markers, must not be {@code 0}
+     * @param level the level to check
+     *
+     * @return {@code true} if the level is enabled
+     */
+    static boolean isEnabled(final int mask, final Level level) {
+        return (mask & ENABLED_AT[level.ordinal()]) != 0;
+    }
+
+    /**
+     * Checks whether the level is enabled for events without a marker override.
+     *
+     * @param level the level to check
+     *
+     * @return {@code true} if the level is enabled
+     */
+    static boolean isUnmarkedEnabled(final Level level) {
+        return level.ordinal() <= UNMARKED_LEVEL;
+    }
+
+    /**
+     * Returns the current generation of the marker references.
+     *
+     * @return the current generation
+     */
+    static int generation() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Invalidates the masks cached by all the markers.
+     */
+    static void invalidate() {
+        int next;
+        do {
+            next = GENERATION.incrementAndGet();
+        } while (next == 0);
+    }
+
+    private static int parseLevel(final String value) {
+        final String name = value.toUpperCase(Locale.ROOT);
+        if ("OFF".equals(name)) {
+            return OFF;
+        }
+        try {
+            return Level.valueOf(name).ordinal();
+        } catch (IllegalArgumentException ignore) {
+            return Integer.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+/**
+ * A SLF4J {@code {}} pattern which has been scanned for its anchors and escape sequences.
+ * <p>
+ * Each anchor found in the pattern is stored as the offsets of the literal text which precedes it, so formatting is a
+ * plain copy of segments and arguments. Templates are kept in a bounded cache keyed by the pattern. The cache is a
+ * two-way set associative table, a template which collides with two others replaces one of them. This keeps patterns
+ * which are built dynamically from growing the cache without limit. The size of the cache can be set with the
+ * {@value #CACHE_SIZE_PROPERTY} system property, a size of {@code 0} disables the cache.
+ * </p>
+ */
+final class MessageTemplate {
+    static final String CACHE_SIZE_PROPERTY = "org.jboss.slf4j.template.cache.size";
+
+    private static final String DELIM_STR = "{}";
+    private static final char ESCAPE_CHAR = '\\';
+
+    private static final MessageTemplate[] CACHE;
+    private static final int MASK;
+
+    static {
+        final int size = SecurityActions.getIntSystemProperty(CACHE_SIZE_PROPERTY, 4096);
+        if (size <= 0) {
+            CACHE = null;
+            MASK = 0;
+        } else {
+            // round up to a power of two, with at least two entries for the two ways
+            final int capacity = size <= 2 ? 2 : Integer.highestOneBit(Math.min(size, 1 << 20) - 1) << 1;
+            CACHE = new MessageTemplate[capacity];
+            MASK = capacity - 1;
+        }
+    }
+
+    /**
+     * The pattern this template was created from.
+     */
+    final String pattern;
+    /**
+     * The start and end offsets of the literal text which precedes each anchor.
+     */
+    final int[] segments;
+    /**
+     * Whether the anchor is escaped, {@code \{}}, in which case it is written as {@code {} and does not consume an
+     * argument.
+     */
+    final boolean[] escaped;
+    /**
+     * The number of anchors which consume an argument.
+     */
+    final int placeholders;
+    /**
+     * The offset of the text after the last anchor.
+     */
+    final int tail;
+
+    private MessageTemplate(final String pattern, final int[] segments, final boolean[] escaped, final int placeholders,
+            final int tail) {
+        this.pattern = pattern;
+        this.segments = segments;
+        this.escaped = escaped;
+        this.placeholders = placeholders;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the template for the pattern, parsing it if it's not in the cache.
+     *
+     * @param pattern the pattern, cannot be {@code null}
+     *
+     * @return the template
+     */
+    static MessageTemplate of(final String pattern) {
+        final MessageTemplate[] cache = CACHE;
+        if (cache == null) {
+            return parse(pattern);
+        }
+        final int hash = pattern.hashCode();
+        final int first = hash & MASK;
+        final int second = first ^ 1;
+        // templates are immutable so they can be safely read without synchronization
+        MessageTemplate template = cache[first];
+        if (template != null && matches(template, pattern)) {
+            return template;
+        }
+        final MessageTemplate other = cache[second];
+        if (other != null && matches(other, pattern)) {
+            return other;
+        }
+        final MessageTemplate result = parse(pattern);
+        // use an empty slot if there is one, otherwise evict the entry chosen by the hash
+        if (template == null) {
+            cache[first] = result;
+        } else if (other == null || ((hash >>> 16) & 1) == 0) {
+            cache[second] = result;
+        } else {
+            cache[first] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of anchors in the template, including escaped anchors.
+     *
+     * @return the number of anchors
+     */
+    int anchors() {
+        return escaped.length;
+    }
+
+    private static boolean matches(final MessageTemplate template, final String pattern) {
+        final String p = template.pattern;
+        return p == pattern || p.equals(pattern);
+    }
+
+    static MessageTemplate parse(final String pattern) {
+        int anchors = 0;
+        for (int j = pattern.indexOf(DELIM_STR); j != -1; j = pattern.indexOf(DELIM_STR, j + 1)) {
+            anchors++;
+        }
+        final int[] segments = new int[anchors << 1];
+        final boolean[] escaped = new boolean[anchors];
+        int placeholders = 0;
+        int count = 0;
+        int i = 0;
+        int j;
+        while ((j = pattern.indexOf(DELIM_STR, i)) != -1) {
+            segments[count << 1] = i;
+            if (j > 0 && pattern.charAt(j - 1) == ESCAPE_CHAR) {
+                // the escape character is never copied
+                segments[(count << 1) + 1] = j - 1;
+                if (j >= 2 && pattern.charAt(j - 2) == ESCAPE_CHAR) {
+                    // the escape character is itself escaped: "abc x:\\{}"
+                    placeholders++;
+                    i = j + 2;
+                } else {
+                    escaped[count] = true;
+                    i = j + 1;
+                }
+            } else {
+                segments[(count << 1) + 1] = j;
+                placeholders++;
+                i = j + 2;
+            }
+            count++;
+        }
+        return new MessageTemplate(pattern, segments, escaped, placeholders, i);
+    }
+}
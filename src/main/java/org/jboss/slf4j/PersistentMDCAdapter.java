@@ -0,0 +1,337 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jboss.logging.MDC;
+
+/**
+ * An MDC adapter which keeps an immutable copy of the context of each thread. Enabled with the
+ * {@value #ENABLED_PROPERTY} system property.
+ * <p>
+ * Each change replaces the immutable context of the thread, so {@link #getCopyOfContextMap()} shares the current
+ * context with the returned map rather than copying it. Passing a map returned by {@link #getCopyOfContextMap()} to
+ * {@link #setContextMap(Map)} replaces the context of the thread with a single reference. Changes are written through
+ * to the JBoss Logging {@link MDC}, so formatters and other readers of the {@link MDC} see the same values. When a
+ * context is replaced only the entries which differ are written through.
+ * </p>
+ * <p>
+ * Entries written directly to the {@link MDC} can be read with {@link #get(String)}, however they are not part of the
+ * maps returned by {@link #getCopyOfContextMap()} and are not removed when the context is replaced.
+ * </p>
+ */
+public class PersistentMDCAdapter extends JBossMDCAdapter {
+    static final String ENABLED_PROPERTY = "org.jboss.slf4j.mdc.persistent";
+    static final boolean ENABLED = Boolean.parseBoolean(SecurityActions.getSystemProperty(ENABLED_PROPERTY));
+
+    private final ThreadLocal<Context> current = ThreadLocal.withInitial(() -> Context.EMPTY);
+
+    /**
+     * Checks whether this adapter should be used rather than the {@link JBossMDCAdapter}.
+     *
+     * @return {@code true} if the {@value #ENABLED_PROPERTY} system property is {@code true}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public void clear() {
+        current.set(Context.EMPTY);
+        MDC.clear();
+    }
+
+    @Override
+    public String get(final String key) {
+        final Context context = current.get();
+        final int index = context.indexOf(key);
+        if (index >= 0) {
+            return context.values[index];
+        }
+        return super.get(key);
+    }
+
+    @Override
+    public void put(final String key, final String val) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        current.set(current.get().with(key, val));
+        MDC.put(key, val);
+    }
+
+    @Override
+    public void remove(final String key) {
+        current.set(current.get().without(key));
+        MDC.remove(key);
+    }
+
+    @Override
+    public Map<String, String> getCopyOfContextMap() {
+        return new Snapshot(current.get());
+    }
+
+    @Override
+    public void setContextMap(final Map<String, String> contextMap) {
+        replace(Context.of(contextMap));
+    }
+
+    @Override
+    Object capture() {
+        return current.get();
+    }
+
+    @Override
+    Object install(final Object context) {
+        final Context previous = current.get();
+        replace((Context) context);
+        return previous;
+    }
+
+    @Override
+    void restore(final Object previous) {
+        replace((Context) previous);
+    }
+
+    private void replace(final Context next) {
+        final Context previous = current.get();
+        if (next == previous) {
+            return;
+        }
+        current.set(next);
+        // write through only the entries which differ, the values of a shared context are usually the same instances
+        if (next.keys == previous.keys) {
+            // only values have been replaced since the contexts diverged
+            for (int i = 0; i < next.keys.length; i++) {
+                if (!Objects.equals(previous.values[i], next.values[i])) {
+                    MDC.put(next.keys[i], next.values[i]);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < previous.keys.length; i++) {
+            if (next.indexOf(previous.keys[i], previous.hashes[i]) < 0) {
+                MDC.remove(previous.keys[i]);
+            }
+        }
+        for (int i = 0; i < next.keys.length; i++) {
+            final int index = previous.indexOf(next.keys[i], next.hashes[i]);
+            if (index < 0 || !Objects.equals(previous.values[index], next.values[i])) {
+                MDC.put(next.keys[i], next.values[i]);
+            }
+        }
+    }
+
+    /**
+     * An immutable context. Entries are kept in insertion order and a copy is made for each change, which for the
+     * number of entries an MDC typically holds is cheaper than maintaining a tree.
+     */
+    static final class Context {
+        static final Context EMPTY = new Context(new String[0], new int[0], new String[0]);
+
+        final String[] keys;
+        final int[] hashes;
+        final String[] values;
+
+        private Context(final String[] keys, final int[] hashes, final String[] values) {
+            this.keys = keys;
+            this.hashes = hashes;
+            this.values = values;
+        }
+
+        static Context of(final Map<String, String> map) {
+            if (map instanceof Snapshot) {
+                return ((Snapshot) map).context;
+            }
+            if (map == null || map.isEmpty()) {
+                return EMPTY;
+            }
+            Context context = EMPTY;
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                final String key = entry.getKey();
+                if (key != null) {
+                    context = context.with(key, entry.getValue());
+                }
+            }
+            return context;
+        }
+
+        int indexOf(final Object key) {
+            return key == null ? -1 : indexOf(key, key.hashCode());
+        }
+
+        int indexOf(final Object key, final int hash) {
+            for (int i = 0; i < keys.length; i++) {
+                if (hashes[i] == hash && keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Context with(final String key, final String value) {
+            final int hash = key.hashCode();
+            final int index = indexOf(key, hash);
+            if (index >= 0) {
+                if (Objects.equals(values[index], value)) {
+                    return this;
+                }
+                final String[] newValues = values.clone();
+                newValues[index] = value;
+                return new Context(keys, hashes, newValues);
+            }
+            final int length = keys.length;
+            final String[] newKeys = Arrays.copyOf(keys, length + 1);
+            final int[] newHashes = Arrays.copyOf(hashes, length + 1);
+            final String[] newValues = Arrays.copyOf(values, length + 1);
+            newKeys[length] = key;
+            newHashes[length] = hash;
+            newValues[length] = value;
+            return new Context(newKeys, newHashes, newValues);
+        }
+
+        Context without(final Object key) {
+            final int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            final int length = keys.length - 1;
+            if (length == 0) {
+                return EMPTY;
+            }
+            final String[] newKeys = new String[length];
+            final int[] newHashes = new int[length];
+            final String[] newValues = new String[length];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(hashes, 0, newHashes, 0, index);
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, length - index);
+            System.arraycopy(hashes, index + 1, newHashes, index, length - index);
+            System.arraycopy(values, index + 1, newValues, index, length - index);
+            return new Context(newKeys, newHashes, newValues);
+        }
+    }
+
+    /**
+     * A map view of a context. Changes to the map replace the context of the map only, the context of the thread is
+     * not changed.
+     */
+    static final class Snapshot extends AbstractMap<String, String> {
+        private Context context;
+
+        Snapshot(final Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public int size() {
+            return context.keys.length;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return context.indexOf(key) >= 0;
+        }
+
+        @Override
+        public String get(final Object key) {
+            final int index = context.indexOf(key);
+            return index < 0 ? null : context.values[index];
+        }
+
+        @Override
+        public String put(final String key, final String value) {
+            Objects.requireNonNull(key, "key");
+            final String previous = get(key);
+            context = context.with(key, value);
+            return previous;
+        }
+
+        @Override
+        public String remove(final Object key) {
+            final String previous = get(key);
+            context = context.without(key);
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            context = Context.EMPTY;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new EntryIterator(Snapshot.this);
+                }
+
+                @Override
+                public int size() {
+                    return context.keys.length;
+                }
+            };
+        }
+    }
+
+    private static final class EntryIterator implements Iterator<Map.Entry<String, String>> {
+        private final Snapshot snapshot;
+        private Context context;
+        private int index;
+        private String lastKey;
+
+        EntryIterator(final Snapshot snapshot) {
+            this.snapshot = snapshot;
+            this.context = snapshot.context;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < context.keys.length;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastKey = context.keys[index];
+            return new AbstractMap.SimpleImmutableEntry<>(lastKey, context.values[index++]);
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            // the iterator keeps its own context so removing does not change the position
+            snapshot.remove(lastKey);
+            lastKey = null;
+        }
+    }
+}
@@ -0,0 +1,1900 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import org.slf4j.Logger;
+
+/**
+ * A {@link Logger} with overloads for {@code int}, {@code long}, {@code float}, {@code double}, {@code char} and
+ * {@code boolean} arguments. The level is checked before anything else and the arguments are written into the
+ * formatting buffer without being boxed, so a disabled call does not allocate. The format string is a SLF4J {@code {}}
+ * pattern.
+ * <p>
+ * Every combination of the primitive types has a two argument overload, and each type is written as SLF4J writes its
+ * wrapper. A {@code byte} or {@code short} is widened to an {@code int}, which is written the same way.
+ * </p>
+ *
+ * <pre>{@code
+ * private static final PrimitiveLogger LOGGER = (PrimitiveLogger) LoggerFactory.getLogger(Partition.class);
+ *
+ * LOGGER.debug("Wrote {} rows in {} ns", rows, elapsed);
+ * }</pre>
+ */
+public interface PrimitiveLogger extends Logger {
+
+    /**
+     * Logs a message at the TRACE level with an {@code int} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, int arg);
+
+    /**
+     * Logs a message at the TRACE level with a {@code long} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, long arg);
+
+    /**
+     * Logs a message at the TRACE level with a {@code float} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, float arg);
+
+    /**
+     * Logs a message at the TRACE level with a {@code double} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, double arg);
+
+    /**
+     * Logs a message at the TRACE level with a {@code char} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, char arg);
+
+    /**
+     * Logs a message at the TRACE level with a {@code boolean} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void trace(String format, boolean arg);
+
+    /**
+     * Logs a message at the TRACE level with {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code int} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, int arg1, long arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code int} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, int arg1, float arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code int} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, int arg1, double arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code int} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, int arg1, char arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code int} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, int arg1, boolean arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code long} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, long arg1, int arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code long} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, long arg1, float arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code long} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, long arg1, double arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code long} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, long arg1, char arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code long} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, long arg1, boolean arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code float} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, float arg1, int arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code float} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, float arg1, long arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, float arg1, float arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code float} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, float arg1, double arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code float} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, float arg1, char arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code float} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, float arg1, boolean arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code double} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, double arg1, int arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code double} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, double arg1, long arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code double} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, double arg1, float arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code double} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, double arg1, char arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code double} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, double arg1, boolean arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code char} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, char arg1, int arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code char} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, char arg1, long arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code char} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, char arg1, float arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code char} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, char arg1, double arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, char arg1, char arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code char} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, char arg1, boolean arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code boolean} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, boolean arg1, int arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code boolean} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, boolean arg1, long arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code boolean} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, boolean arg1, float arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code boolean} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, boolean arg1, double arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code boolean} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, boolean arg1, char arg2);
+
+    /**
+     * Logs a message at the TRACE level with {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void trace(String format, boolean arg1, boolean arg2);
+
+    /**
+     * Logs a message at the DEBUG level with an {@code int} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, int arg);
+
+    /**
+     * Logs a message at the DEBUG level with a {@code long} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, long arg);
+
+    /**
+     * Logs a message at the DEBUG level with a {@code float} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, float arg);
+
+    /**
+     * Logs a message at the DEBUG level with a {@code double} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, double arg);
+
+    /**
+     * Logs a message at the DEBUG level with a {@code char} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, char arg);
+
+    /**
+     * Logs a message at the DEBUG level with a {@code boolean} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(String format, boolean arg);
+
+    /**
+     * Logs a message at the DEBUG level with {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code int} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, int arg1, long arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code int} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, int arg1, float arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code int} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, int arg1, double arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code int} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, int arg1, char arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code int} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, int arg1, boolean arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code long} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, long arg1, int arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code long} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, long arg1, float arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code long} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, long arg1, double arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code long} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, long arg1, char arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code long} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, long arg1, boolean arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code float} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, float arg1, int arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code float} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, float arg1, long arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, float arg1, float arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code float} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, float arg1, double arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code float} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, float arg1, char arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code float} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, float arg1, boolean arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code double} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, double arg1, int arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code double} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, double arg1, long arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code double} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, double arg1, float arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code double} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, double arg1, char arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code double} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, double arg1, boolean arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code char} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, char arg1, int arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code char} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, char arg1, long arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code char} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, char arg1, float arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code char} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, char arg1, double arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, char arg1, char arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code char} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, char arg1, boolean arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code boolean} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, boolean arg1, int arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code boolean} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, boolean arg1, long arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code boolean} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, boolean arg1, float arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code boolean} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, boolean arg1, double arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code boolean} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, boolean arg1, char arg2);
+
+    /**
+     * Logs a message at the DEBUG level with {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(String format, boolean arg1, boolean arg2);
+
+    /**
+     * Logs a message at the INFO level with an {@code int} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, int arg);
+
+    /**
+     * Logs a message at the INFO level with a {@code long} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, long arg);
+
+    /**
+     * Logs a message at the INFO level with a {@code float} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, float arg);
+
+    /**
+     * Logs a message at the INFO level with a {@code double} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, double arg);
+
+    /**
+     * Logs a message at the INFO level with a {@code char} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, char arg);
+
+    /**
+     * Logs a message at the INFO level with a {@code boolean} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, boolean arg);
+
+    /**
+     * Logs a message at the INFO level with {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code int} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, int arg1, long arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code int} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, int arg1, float arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code int} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, int arg1, double arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code int} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, int arg1, char arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code int} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, int arg1, boolean arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code long} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, long arg1, int arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code long} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, long arg1, float arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code long} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, long arg1, double arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code long} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, long arg1, char arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code long} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, long arg1, boolean arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code float} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, float arg1, int arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code float} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, float arg1, long arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, float arg1, float arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code float} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, float arg1, double arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code float} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, float arg1, char arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code float} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, float arg1, boolean arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code double} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, double arg1, int arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code double} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, double arg1, long arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code double} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, double arg1, float arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code double} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, double arg1, char arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code double} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, double arg1, boolean arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code char} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, char arg1, int arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code char} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, char arg1, long arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code char} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, char arg1, float arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code char} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, char arg1, double arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, char arg1, char arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code char} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, char arg1, boolean arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code boolean} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, boolean arg1, int arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code boolean} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, boolean arg1, long arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code boolean} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, boolean arg1, float arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code boolean} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, boolean arg1, double arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code boolean} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, boolean arg1, char arg2);
+
+    /**
+     * Logs a message at the INFO level with {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, boolean arg1, boolean arg2);
+
+    /**
+     * Logs a message at the WARN level with an {@code int} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, int arg);
+
+    /**
+     * Logs a message at the WARN level with a {@code long} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, long arg);
+
+    /**
+     * Logs a message at the WARN level with a {@code float} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, float arg);
+
+    /**
+     * Logs a message at the WARN level with a {@code double} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, double arg);
+
+    /**
+     * Logs a message at the WARN level with a {@code char} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, char arg);
+
+    /**
+     * Logs a message at the WARN level with a {@code boolean} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, boolean arg);
+
+    /**
+     * Logs a message at the WARN level with {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code int} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, int arg1, long arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code int} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, int arg1, float arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code int} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, int arg1, double arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code int} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, int arg1, char arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code int} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, int arg1, boolean arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code long} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, long arg1, int arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code long} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, long arg1, float arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code long} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, long arg1, double arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code long} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, long arg1, char arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code long} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, long arg1, boolean arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code float} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, float arg1, int arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code float} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, float arg1, long arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, float arg1, float arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code float} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, float arg1, double arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code float} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, float arg1, char arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code float} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, float arg1, boolean arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code double} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, double arg1, int arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code double} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, double arg1, long arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code double} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, double arg1, float arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code double} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, double arg1, char arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code double} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, double arg1, boolean arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code char} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, char arg1, int arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code char} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, char arg1, long arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code char} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, char arg1, float arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code char} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, char arg1, double arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, char arg1, char arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code char} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, char arg1, boolean arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code boolean} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, boolean arg1, int arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code boolean} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, boolean arg1, long arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code boolean} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, boolean arg1, float arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code boolean} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, boolean arg1, double arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code boolean} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, boolean arg1, char arg2);
+
+    /**
+     * Logs a message at the WARN level with {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, boolean arg1, boolean arg2);
+
+    /**
+     * Logs a message at the ERROR level with an {@code int} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, int arg);
+
+    /**
+     * Logs a message at the ERROR level with a {@code long} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, long arg);
+
+    /**
+     * Logs a message at the ERROR level with a {@code float} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, float arg);
+
+    /**
+     * Logs a message at the ERROR level with a {@code double} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, double arg);
+
+    /**
+     * Logs a message at the ERROR level with a {@code char} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, char arg);
+
+    /**
+     * Logs a message at the ERROR level with a {@code boolean} argument.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, boolean arg);
+
+    /**
+     * Logs a message at the ERROR level with {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, int arg1, int arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code int} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, int arg1, long arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code int} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, int arg1, float arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code int} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, int arg1, double arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code int} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, int arg1, char arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code int} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, int arg1, boolean arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code long} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, long arg1, int arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, long arg1, long arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code long} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, long arg1, float arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code long} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, long arg1, double arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code long} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, long arg1, char arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code long} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, long arg1, boolean arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code float} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, float arg1, int arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code float} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, float arg1, long arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, float arg1, float arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code float} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, float arg1, double arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code float} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, float arg1, char arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code float} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, float arg1, boolean arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code double} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, double arg1, int arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code double} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, double arg1, long arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code double} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, double arg1, float arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, double arg1, double arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code double} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, double arg1, char arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code double} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, double arg1, boolean arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code char} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, char arg1, int arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code char} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, char arg1, long arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code char} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, char arg1, float arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code char} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, char arg1, double arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, char arg1, char arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code char} and {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, char arg1, boolean arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code boolean} and {@code int} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, boolean arg1, int arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code boolean} and {@code long} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, boolean arg1, long arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code boolean} and {@code float} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, boolean arg1, float arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code boolean} and {@code double} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, boolean arg1, double arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code boolean} and {@code char} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, boolean arg1, char arg2);
+
+    /**
+     * Logs a message at the ERROR level with {@code boolean} arguments.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, boolean arg1, boolean arg2);
+}
@@ -0,0 +1,150 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+/**
+ * A {@link DeferredMessage} whose arguments are primitives. Each argument is encoded as a {@code long} together with
+ * its kind, so the arguments are never boxed and are written straight into the formatting buffer.
+ */
+final class PrimitiveMessage extends DeferredMessage {
+    static final int INT = 0;
+    static final int LONG = 1;
+    static final int DOUBLE = 2;
+    static final int BOOLEAN = 3;
+    static final int CHAR = 4;
+    static final int FLOAT = 5;
+
+    private final int kind1;
+    private final long value1;
+    private final int kind2;
+    private final long value2;
+
+    private PrimitiveMessage(final String format, final int count, final int kind1, final long value1,
+            final int kind2, final long value2) {
+        super(format, null, null, null, count);
+        this.kind1 = kind1;
+        this.value1 = value1;
+        this.kind2 = kind2;
+        this.value2 = value2;
+    }
+
+    /**
+     * Creates a message for the pattern and a single argument.
+     *
+     * @param format the SLF4J pattern, may be {@code null}
+     * @param kind   the kind of the argument
+     * @param value  the argument encoded with one of the {@code encode()} methods
+     *
+     * @return the message to log
+     */
+    static Object of(final String format, final int kind, final long value) {
+        if (format == null) {
+            return null;
+        }
+        return new PrimitiveMessage(format, 1, kind, value, kind, 0L);
+    }
+
+    /**
+     * Creates a message for the pattern and two arguments.
+     *
+     * @param format the SLF4J pattern, may be {@code null}
+     * @param kind1  the kind of the first argument
+     * @param value1 the first argument encoded as a {@code long}
+     * @param kind2  the kind of the second argument
+     * @param value2 the second argument encoded as a {@code long}
+     *
+     * @return the message to log
+     */
+    static Object of(final String format, final int kind1, final long value1, final int kind2, final long value2) {
+        if (format == null) {
+            return null;
+        }
+        return new PrimitiveMessage(format, 2, kind1, value1, kind2, value2);
+    }
+
+    static long encode(final int value) {
+        return value;
+    }
+
+    static long encode(final long value) {
+        return value;
+    }
+
+    static long encode(final float value) {
+        return Float.floatToRawIntBits(value);
+    }
+
+    static long encode(final double value) {
+        return Double.doubleToRawLongBits(value);
+    }
+
+    static long encode(final boolean value) {
+        return value ? 1L : 0L;
+    }
+
+    static long encode(final char value) {
+        return value;
+    }
+
+    /**
+     * Returns the kind of an argument.
+     *
+     * @param index the index of the argument, less than {@link #getCount()}
+     *
+     * @return the kind of the argument
+     */
+    int getKind(final int index) {
+        return index == 0 ? kind1 : kind2;
+    }
+
+    /**
+     * Returns an argument encoded as a {@code long}.
+     *
+     * @param index the index of the argument, less than {@link #getCount()}
+     *
+     * @return the encoded argument
+     */
+    long getValue(final int index) {
+        return index == 0 ? value1 : value2;
+    }
+
+    @Override
+    Object getArgument(final int index) {
+        final long value = getValue(index);
+        switch (getKind(index)) {
+            case INT:
+                return (int) value;
+            case LONG:
+                return value;
+            case DOUBLE:
+                return Double.longBitsToDouble(value);
+            case FLOAT:
+                return Float.intBitsToFloat((int) value);
+            case CHAR:
+                return (char) value;
+            default:
+                return value != 0L;
+        }
+    }
+
+    @Override
+    String format() {
+        return JBossMessageFormatter.format(getFormat(), getCount(), kind1, value1, kind2, value2);
+    }
+}
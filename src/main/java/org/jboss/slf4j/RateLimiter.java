@@ -0,0 +1,306 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger.Level;
+
+/**
+ * Limits the rate of events per logger and message template. Enabled with the {@value #LIMIT_PROPERTY} system
+ * property, which is the number of events per second, or with per-logger limits in the {@value #LIMITS_PROPERTY}
+ * system property. The value of {@value #LIMITS_PROPERTY} is a comma separated list of {@code CATEGORY=LIMIT} pairs,
+ * the longest category which matches the name of the logger wins. A limit of {@code 0} disables the limit.
+ * <p>
+ * Each template of a logger has a token bucket which allows a burst of {@value #BURST_PROPERTY} events, by default the
+ * same as the limit, and refills at the limit. The bucket is a single timestamp updated with a compare and set, so an
+ * event which finds a token costs a read of the clock and an uncontended update. Templates beyond the first
+ * {@value #MAX_TEMPLATES} of a logger share a single bucket.
+ * </p>
+ * <p>
+ * Suppressed events are counted and a summary of each template with suppressed events is logged at the level of the
+ * suppressed events every {@value #INTERVAL_PROPERTY} seconds. A logger which has nothing to report for an interval is
+ * no longer summarized until it suppresses another event, and the reporter thread stops once no logger has anything
+ * to report.
+ * </p>
+ */
+final class RateLimiter {
+    static final String LIMIT_PROPERTY = "org.jboss.slf4j.rate.limit";
+    static final String LIMITS_PROPERTY = "org.jboss.slf4j.rate.limits";
+    static final String BURST_PROPERTY = "org.jboss.slf4j.rate.burst";
+    static final String INTERVAL_PROPERTY = "org.jboss.slf4j.rate.summary.interval";
+
+    private static final int MAX_TEMPLATES = 256;
+    private static final String THREAD_NAME = "slf4j-jboss-logging-rate-limiter";
+    private static final String FQCN = RateLimiter.class.getName();
+
+    private static final int DEFAULT_LIMIT;
+    private static final String[] CATEGORIES;
+    private static final int[] CATEGORY_LIMITS;
+    private static final int BURST;
+    private static final long INTERVAL_SECONDS;
+
+    /**
+     * Indicates whether any limit has been configured.
+     */
+    static final boolean ENABLED;
+
+    // the limiters which have suppressed events, summarized by the reporter
+    private static final Queue<RateLimiter> SUPPRESSING = new ConcurrentLinkedQueue<>();
+    private static ScheduledExecutorService reporter;
+
+    static {
+        DEFAULT_LIMIT = Math.max(0, SecurityActions.getIntSystemProperty(LIMIT_PROPERTY, 0));
+        final List<String> categories = new ArrayList<>();
+        final List<Integer> limits = new ArrayList<>();
+        final String value = SecurityActions.getSystemProperty(LIMITS_PROPERTY);
+        if (value != null) {
+            for (String rule : value.split(",")) {
+                if (rule.isBlank()) {
+                    continue;
+                }
+                final int index = rule.indexOf('=');
+                final String category = index < 0 ? "" : rule.substring(0, index).trim();
+                final int limit = index < 0 ? -1 : parseLimit(rule.substring(index + 1).trim());
+                if (category.isEmpty() || limit < 0) {
+                    InternalReporter.warn("Ignoring invalid rate limit \"" + rule.trim() + "\" in " + LIMITS_PROPERTY);
+                } else {
+                    categories.add(category);
+                    limits.add(limit);
+                }
+            }
+        }
+        CATEGORIES = categories.toArray(new String[0]);
+        CATEGORY_LIMITS = limits.stream().mapToInt(Integer::intValue).toArray();
+        BURST = Math.max(0, SecurityActions.getIntSystemProperty(BURST_PROPERTY, 0));
+        INTERVAL_SECONDS = Math.max(1, SecurityActions.getIntSystemProperty(INTERVAL_PROPERTY, 10));
+        ENABLED = DEFAULT_LIMIT > 0 || limits.stream().anyMatch(limit -> limit > 0);
+    }
+
+    private final JBossLoggerAdapter adapter;
+    // the time between tokens and how far ahead of the clock the bucket may run, in nanoseconds
+    private final long emissionInterval;
+    private final long tolerance;
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Bucket overflow;
+    private volatile boolean suppressing;
+
+    RateLimiter(final JBossLoggerAdapter adapter, final int limit, final int burst) {
+        this.adapter = adapter;
+        emissionInterval = Math.max(1L, TimeUnit.SECONDS.toNanos(1L) / limit);
+        tolerance = emissionInterval * (Math.max(1, burst) - 1);
+        overflow = new Bucket("");
+    }
+
+    /**
+     * Creates the limiter for the adapter.
+     *
+     * @param adapter the adapter
+     *
+     * @return the limiter or {@code null} if the logger is not limited
+     */
+    static RateLimiter create(final JBossLoggerAdapter adapter) {
+        if (!ENABLED) {
+            return null;
+        }
+        final String name = adapter.getName();
+        int limit = DEFAULT_LIMIT;
+        int matched = -1;
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            final String category = CATEGORIES[i];
+            if (category.length() > matched && (name.equals(category)
+                    || (name.startsWith(category) && name.charAt(category.length()) == '.'))) {
+                limit = CATEGORY_LIMITS[i];
+                matched = category.length();
+            }
+        }
+        return limit > 0 ? new RateLimiter(adapter, limit, BURST == 0 ? limit : BURST) : null;
+    }
+
+    /**
+     * Takes a token from the bucket of the message template.
+     *
+     * @param level   the level of the event
+     * @param message the message, which is a {@link DeferredMessage} for formatted messages
+     *
+     * @return {@code true} if the event should be logged, {@code false} if it has been suppressed
+     */
+    boolean tryAcquire(final Level level, final Object message) {
+        final Bucket bucket = bucket(message);
+        if (bucket.tryAcquire(emissionInterval, tolerance)) {
+            return true;
+        }
+        bucket.level = level;
+        bucket.suppressed.increment();
+        if (!suppressing) {
+            register(this);
+        }
+        return false;
+    }
+
+    /**
+     * Logs a summary for each template with suppressed events and resets the counts.
+     *
+     * @param seconds the number of seconds the counts cover
+     *
+     * @return {@code true} if any events had been suppressed
+     */
+    boolean summarize(final long seconds) {
+        boolean reported = false;
+        for (Bucket bucket : buckets.values()) {
+            reported |= summarize(bucket, seconds);
+        }
+        return summarize(overflow, seconds) || reported;
+    }
+
+    private boolean summarize(final Bucket bucket, final long seconds) {
+        final long count = bucket.suppressed.sumThenReset();
+        if (count > 0L) {
+            final String message = String.format(Locale.ROOT, "Suppressed %,d similar messages in the last %ds%s",
+                    count, seconds, bucket.template.isEmpty() ? "" : ": " + bucket.template);
+            // the summary itself is not limited
+            adapter.dispatch(bucket.level, FQCN, message, null);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean hasSuppressed() {
+        for (Bucket bucket : buckets.values()) {
+            if (bucket.suppressed.sum() > 0L) {
+                return true;
+            }
+        }
+        return overflow.suppressed.sum() > 0L;
+    }
+
+    private Bucket bucket(final Object message) {
+        final String template;
+        if (message instanceof DeferredMessage) {
+            template = ((DeferredMessage) message).getFormat();
+        } else if (message instanceof String) {
+            template = (String) message;
+        } else {
+            return overflow;
+        }
+        final Bucket bucket = buckets.get(template);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= MAX_TEMPLATES) {
+            return overflow;
+        }
+        return buckets.computeIfAbsent(template, Bucket::new);
+    }
+
+    private static synchronized void register(final RateLimiter limiter) {
+        if (limiter.suppressing) {
+            return;
+        }
+        limiter.suppressing = true;
+        SUPPRESSING.add(limiter);
+        if (reporter == null) {
+            reporter = Executors.newSingleThreadScheduledExecutor(task -> {
+                final Thread thread = new Thread(task, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            reporter.scheduleWithFixedDelay(RateLimiter::report, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private static synchronized void unregister(final RateLimiter limiter) {
+        // an event suppressed while the summary was logged saw the flag still set and did not register the limiter
+        limiter.suppressing = false;
+        if (limiter.hasSuppressed()) {
+            limiter.suppressing = true;
+            return;
+        }
+        SUPPRESSING.remove(limiter);
+        if (SUPPRESSING.isEmpty()) {
+            reporter.shutdown();
+            reporter = null;
+        }
+    }
+
+    private static void report() {
+        for (RateLimiter limiter : SUPPRESSING) {
+            try {
+                if (!limiter.summarize(INTERVAL_SECONDS)) {
+                    unregister(limiter);
+                }
+            } catch (Throwable t) {
+                InternalReporter.error("Failed to log the rate limit summary for " + limiter.adapter.getName(), t);
+            }
+        }
+    }
+
+    private static int parseLimit(final String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A token bucket implemented with the generic cell rate algorithm. Rather than a count of tokens the bucket keeps
+     * the theoretical arrival time of the next event, and an event conforms if it does not arrive more than the
+     * tolerance ahead of that time.
+     */
+    private static final class Bucket {
+        private static final AtomicLongFieldUpdater<Bucket> ARRIVAL = AtomicLongFieldUpdater.newUpdater(Bucket.class,
+                "arrival");
+
+        final String template;
+        final LongAdder suppressed = new LongAdder();
+        // the level of the most recently suppressed event, used for the summary
+        volatile Level level = Level.INFO;
+        private volatile long arrival = System.nanoTime();
+
+        Bucket(final String template) {
+            this.template = template;
+        }
+
+        boolean tryAcquire(final long emissionInterval, final long tolerance) {
+            final long now = System.nanoTime();
+            for (;;) {
+                final long arrival = this.arrival;
+                final long start = arrival - now < 0L ? now : arrival;
+                if (start - now > tolerance) {
+                    return false;
+                }
+                if (ARRIVAL.compareAndSet(this, arrival, start + emissionInterval)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
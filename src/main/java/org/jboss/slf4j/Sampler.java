@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.MDC;
+
+/**
+ * Probabilistic sampling of events per logger category. Configured with the {@value #PROPERTY} system property, a
+ * comma separated list of {@code CATEGORY=LEVEL:N} rules which log one in {@code N} events at the level and every
+ * less severe level for loggers in the category. For example {@code com.acme.cache=DEBUG:100} logs one in a hundred
+ * {@code DEBUG} and {@code TRACE} events of {@code com.acme.cache} and its children. Only the rules of the longest
+ * category which matches the name of the logger apply, levels they do not cover are not sampled. A later rule of the
+ * same category takes precedence for the levels it covers.
+ * <p>
+ * The rates are resolved once for each logger. The decision is made before the message is formatted with a
+ * {@link ThreadLocalRandom}, so threads never contend. Sampled records carry the rate in the {@value #SAMPLE_RATE_KEY}
+ * MDC entry while they are logged so the counts can be scaled back up.
+ * </p>
+ */
+final class Sampler {
+    static final String PROPERTY = "org.jboss.slf4j.sample.rates";
+    static final String SAMPLE_RATE_KEY = "sampleRate";
+
+    private static final Level[] LEVELS = Level.values();
+    private static final Rule[] RULES = parse(SecurityActions.getSystemProperty(PROPERTY));
+
+    /**
+     * Indicates whether any sampling rule has been configured.
+     */
+    static final boolean ENABLED = RULES.length > 0;
+
+    private Sampler() {
+    }
+
+    /**
+     * Resolves the sampling rates of a logger.
+     *
+     * @param name the name of the logger
+     *
+     * @return the rates indexed by the level ordinal or {@code null} if the logger is not sampled
+     */
+    static int[] rates(final String name) {
+        return ENABLED ? rates(RULES, name) : null;
+    }
+
+    static int[] rates(final Rule[] rules, final String name) {
+        int[] rates = null;
+        int matched = -1;
+        // the rules are sorted by the length of the category so the longest match is found last
+        for (Rule rule : rules) {
+            if (rule.matches(name)) {
+                if (rates == null) {
+                    rates = new int[LEVELS.length];
+                } else if (rule.category.length() > matched) {
+                    // a longer category replaces the rates of a shorter one
+                    Arrays.fill(rates, 0);
+                }
+                matched = rule.category.length();
+                // the ordinals of less severe levels are greater
+                for (int i = rule.level.ordinal(); i < rates.length; i++) {
+                    rates[i] = rule.rate;
+                }
+            }
+        }
+        if (rates != null) {
+            for (int rate : rates) {
+                if (rate > 1) {
+                    return rates;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decides whether an event is logged.
+     *
+     * @param rate the sampling rate, one in {@code rate} events is logged
+     *
+     * @return {@code true} if the event should be logged
+     */
+    static boolean sample(final int rate) {
+        return ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    /**
+     * Logs a sampled record with the rate in the {@link MDC}.
+     */
+    static void log(final JBossLoggerAdapter adapter, final int rate, final Level level, final String fqcn,
+            final Object message, final Throwable t) {
+        final Object previous = MDC.put(SAMPLE_RATE_KEY, Integer.toString(rate));
+        try {
+            adapter.publish(level, fqcn, message, t);
+        } finally {
+            if (previous == null) {
+                MDC.remove(SAMPLE_RATE_KEY);
+            } else {
+                MDC.put(SAMPLE_RATE_KEY, previous);
+            }
+        }
+    }
+
+    static Rule[] parse(final String value) {
+        if (value == null) {
+            return new Rule[0];
+        }
+        final List<Rule> rules = new ArrayList<>();
+        for (String rule : value.split(",")) {
+            if (rule.isBlank()) {
+                continue;
+            }
+            final int index = rule.indexOf('=');
+            final int separator = rule.indexOf(':', index + 1);
+            Level level = null;
+            int rate = 0;
+            if (index > 0 && separator > index) {
+                try {
+                    level = Level.valueOf(rule.substring(index + 1, separator).trim().toUpperCase(Locale.ROOT));
+                    rate = Integer.parseInt(rule.substring(separator + 1).trim());
+                } catch (IllegalArgumentException ignore) {
+                    // reported below
+                }
+            }
+            final String category = index > 0 ? rule.substring(0, index).trim() : "";
+            if (category.isEmpty() || level == null || rate < 1) {
+                InternalReporter.warn("Ignoring invalid sampling rate \"" + rule.trim() + "\" in " + PROPERTY);
+            } else {
+                rules.add(new Rule(category, level, rate));
+            }
+        }
+        // a stable sort keeps later rules of the same category after earlier ones
+        rules.sort(Comparator.comparingInt(rule -> rule.category.length()));
+        return rules.toArray(new Rule[0]);
+    }
+
+    static final class Rule {
+        final String category;
+        final Level level;
+        final int rate;
+
+        Rule(final String category, final Level level, final int rate) {
+            this.category = category;
+            this.level = level;
+            this.rate = rate;
+        }
+
+        boolean matches(final String name) {
+            return name.equals(category) || (name.startsWith(category) && name.charAt(category.length()) == '.');
+        }
+    }
+}
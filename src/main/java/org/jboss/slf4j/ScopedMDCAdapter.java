@@ -0,0 +1,232 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.jboss.logging.MDC;
+import org.jboss.slf4j.PersistentMDCAdapter.Context;
+import org.jboss.slf4j.PersistentMDCAdapter.Snapshot;
+
+/**
+ * An MDC adapter intended for virtual threads. Enabled with the {@value #ENABLED_PROPERTY} system property, a value of
+ * {@code auto} enables it on Java 21 or later.
+ * <p>
+ * The context of a thread is a single reference to an immutable context. Unlike the {@link JBossMDCAdapter} the
+ * context is not written to the JBoss Logging {@link MDC} when it changes. It is placed in the {@link MDC} when the
+ * thread first logs a record with it through a {@link JBossLoggerAdapter}, and removed again once the context changes,
+ * so a thread which logs several records with the same context writes it once. A thread which never logs only holds a
+ * single reference rather than a map. Entries which are already in the {@link MDC} when the context is placed,
+ * including the key/value pairs of the fluent API, take precedence over the entries of the context.
+ * </p>
+ * <p>
+ * New threads do not inherit the context, as threads created by pools would keep the context of whichever thread
+ * created them. {@link #runWith(Map, Runnable)} and {@link #callWith(Map, Callable)} bind a context for the duration
+ * of a task, in the same way a {@code ScopedValue} is bound, and restore the previous context afterward.
+ * {@link ContextExecutors} passes the context on to tasks run by an executor.
+ * </p>
+ */
+public class ScopedMDCAdapter extends JBossMDCAdapter {
+    static final String ENABLED_PROPERTY = "org.jboss.slf4j.mdc.scoped";
+    static final boolean ENABLED;
+
+    static {
+        final String value = SecurityActions.getSystemProperty(ENABLED_PROPERTY);
+        ENABLED = "auto".equalsIgnoreCase(value) ? Runtime.version().feature() >= 21 : Boolean.parseBoolean(value);
+    }
+
+    // only threads which have a context hold a binding
+    private static final ThreadLocal<Binding> BINDING = new ThreadLocal<>();
+
+    /**
+     * Checks whether this adapter should be used rather than the {@link JBossMDCAdapter}.
+     *
+     * @return {@code true} if the adapter has been enabled with the {@value #ENABLED_PROPERTY} system property
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Runs the task with the context and restores the previous context of the thread afterward.
+     *
+     * @param contextMap the context, preferably a map returned from {@link #getCopyOfContextMap()}
+     * @param task       the task to run
+     */
+    public static void runWith(final Map<String, String> contextMap, final Runnable task) {
+        final Context previous = current();
+        bind(Context.of(contextMap));
+        try {
+            task.run();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * Calls the task with the context and restores the previous context of the thread afterward.
+     *
+     * @param contextMap the context, preferably a map returned from {@link #getCopyOfContextMap()}
+     * @param task       the task to call
+     * @param <T>        the type of the result
+     *
+     * @return the result of the task
+     *
+     * @throws Exception if the task fails
+     */
+    public static <T> T callWith(final Map<String, String> contextMap, final Callable<T> task) throws Exception {
+        final Context previous = current();
+        bind(Context.of(contextMap));
+        try {
+            return task.call();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    @Override
+    public void clear() {
+        bind(Context.EMPTY);
+    }
+
+    @Override
+    public String get(final String key) {
+        final Context context = current();
+        final int index = context.indexOf(key);
+        return index < 0 ? null : context.values[index];
+    }
+
+    @Override
+    public void put(final String key, final String val) {
+        if (key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        bind(current().with(key, val));
+    }
+
+    @Override
+    public void remove(final String key) {
+        bind(current().without(key));
+    }
+
+    @Override
+    public Map<String, String> getCopyOfContextMap() {
+        return new Snapshot(current());
+    }
+
+    @Override
+    public void setContextMap(final Map<String, String> contextMap) {
+        bind(Context.of(contextMap));
+    }
+
+    @Override
+    Object capture() {
+        return current();
+    }
+
+    @Override
+    Object install(final Object context) {
+        final Context previous = current();
+        bind((Context) context);
+        return previous;
+    }
+
+    @Override
+    void restore(final Object previous) {
+        bind((Context) previous);
+    }
+
+    /**
+     * Logs the record with the context of the current thread placed in the {@link MDC}.
+     */
+    static void log(final JBossLoggerAdapter adapter, final org.jboss.logging.Logger.Level level, final String fqcn,
+            final Object message, final Throwable t) {
+        final Binding binding = BINDING.get();
+        if (binding != null && binding.placed != binding.context) {
+            binding.place();
+        }
+        adapter.dispatch(level, fqcn, message, t);
+    }
+
+    private static Context current() {
+        final Binding binding = BINDING.get();
+        return binding == null ? Context.EMPTY : binding.context;
+    }
+
+    private static void bind(final Context context) {
+        final Binding binding = BINDING.get();
+        if (context == null || context == Context.EMPTY) {
+            if (binding != null) {
+                binding.unplace();
+                // removing rather than binding an empty context releases the thread local entry
+                BINDING.remove();
+            }
+        } else if (binding == null) {
+            BINDING.set(new Binding(context));
+        } else if (binding.context != context) {
+            binding.unplace();
+            binding.context = context;
+        }
+    }
+
+    /**
+     * The context of a thread and the entries of the context which have been placed in the {@link MDC}.
+     */
+    private static final class Binding {
+        private Context context;
+        private Context placed;
+        // the values written to the MDC, null for the entries which were already in the MDC
+        private String[] written;
+
+        Binding(final Context context) {
+            this.context = context;
+        }
+
+        void place() {
+            unplace();
+            final String[] keys = context.keys;
+            final String[] values = new String[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                final String value = context.values[i];
+                if (value != null && MDC.get(keys[i]) == null) {
+                    MDC.put(keys[i], value);
+                    values[i] = value;
+                }
+            }
+            placed = context;
+            written = values;
+        }
+
+        void unplace() {
+            if (placed == null) {
+                return;
+            }
+            final String[] keys = placed.keys;
+            for (int i = 0; i < keys.length; i++) {
+                // entries replaced since they were placed are left alone
+                if (written[i] != null && MDC.get(keys[i]) == written[i]) {
+                    MDC.remove(keys[i]);
+                }
+            }
+            placed = null;
+            written = null;
+        }
+    }
+}
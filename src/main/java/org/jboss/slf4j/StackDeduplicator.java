@@ -0,0 +1,219 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replaces the stack trace of a throwable which has already been logged with a short reference. Enabled with the
+ * {@value #ENABLED_PROPERTY} system property.
+ * <p>
+ * A throwable is fingerprinted by its type and stack frames, and by those of its causes. The messages are not part of
+ * the fingerprint as they often differ between otherwise identical failures. The first time a stack is seen its
+ * event is logged with the throwable and the message is tagged with the fingerprint. Further events with the same
+ * stack within {@value #WINDOW_PROPERTY} seconds of the first are logged without the throwable and the message refers
+ * to the fingerprint and the number of occurrences instead. Once the window has passed the stack is logged in full
+ * again.
+ * </p>
+ * <p>
+ * Up to {@value #MAX_STACKS} stacks are tracked at a time. If that many stacks are seen within a window the stacks of
+ * other throwables are logged in full.
+ * </p>
+ */
+final class StackDeduplicator {
+    static final String ENABLED_PROPERTY = "org.jboss.slf4j.stack.dedupe";
+    static final String WINDOW_PROPERTY = "org.jboss.slf4j.stack.dedupe.window";
+    static final boolean ENABLED = Boolean.parseBoolean(SecurityActions.getSystemProperty(ENABLED_PROPERTY));
+
+    private static final int MAX_STACKS = 1024;
+    // causes beyond this depth are not part of the fingerprint, which also stops a cycle of causes
+    private static final int MAX_CAUSES = 32;
+    private static final long PRIME = 0x100000001b3L;
+
+    /**
+     * The deduplicator used by all the adapters or {@code null} if deduplication is not enabled.
+     */
+    static final StackDeduplicator INSTANCE = ENABLED
+            ? new StackDeduplicator(TimeUnit.SECONDS.toNanos(
+                    Math.max(1, SecurityActions.getIntSystemProperty(WINDOW_PROPERTY, 60))), MAX_STACKS)
+            : null;
+
+    private final long window;
+    private final int maxStacks;
+    private final ConcurrentMap<Long, Stack> stacks = new ConcurrentHashMap<>();
+
+    StackDeduplicator(final long window, final int maxStacks) {
+        this.window = window;
+        this.maxStacks = maxStacks;
+    }
+
+    /**
+     * Returns the message to log in place of the message for the throwable.
+     *
+     * @param message the message, may be {@code null}
+     * @param t       the throwable
+     *
+     * @return the tagged message, or {@code null} if the stack is not tracked and the event should be logged as is
+     */
+    Reference reference(final Object message, final Throwable t) {
+        final long fingerprint = fingerprint(t);
+        final long now = System.nanoTime();
+        for (;;) {
+            final Stack stack = stacks.get(fingerprint);
+            if (stack != null && now - stack.start < window) {
+                return new Reference(message, stack.id, stack.occurrences.incrementAndGet());
+            }
+            final Stack replacement = new Stack(fingerprint, now);
+            if (stack == null) {
+                if (stacks.size() >= maxStacks && !purge(now)) {
+                    return null;
+                }
+                if (stacks.putIfAbsent(fingerprint, replacement) == null) {
+                    return new Reference(message, replacement.id, 1L);
+                }
+            } else if (stacks.replace(fingerprint, stack, replacement)) {
+                return new Reference(message, replacement.id, 1L);
+            }
+            // another thread started a window for the stack, count this event in it
+        }
+    }
+
+    private boolean purge(final long now) {
+        stacks.values().removeIf(stack -> now - stack.start >= window);
+        return stacks.size() < maxStacks;
+    }
+
+    /**
+     * Computes the fingerprint of the throwable from the types and stack frames of it and its causes.
+     *
+     * @param t the throwable
+     *
+     * @return the fingerprint
+     */
+    static long fingerprint(final Throwable t) {
+        long hash = 0xcbf29ce484222325L;
+        Throwable current = t;
+        for (int depth = 0; current != null && depth < MAX_CAUSES; depth++) {
+            hash = (hash ^ current.getClass().getName().hashCode()) * PRIME;
+            for (StackTraceElement element : current.getStackTrace()) {
+                hash = (hash ^ element.getClassName().hashCode()) * PRIME;
+                hash = (hash ^ element.getMethodName().hashCode()) * PRIME;
+                hash = (hash ^ element.getLineNumber()) * PRIME;
+            }
+            final Throwable cause = current.getCause();
+            current = cause == current ? null : cause;
+        }
+        return hash;
+    }
+
+    private static final class Stack {
+        final String id;
+        final long start;
+        final AtomicLong occurrences = new AtomicLong(1L);
+
+        Stack(final long fingerprint, final long start) {
+            id = String.format("%08x", (int) (fingerprint ^ (fingerprint >>> 32)));
+            this.start = start;
+        }
+    }
+
+    /**
+     * A message tagged with the fingerprint of its throwable. The message is only formatted when the string form is
+     * requested.
+     */
+    static final class Reference {
+        private final Object message;
+        private final String id;
+        private final long occurrence;
+        private String formatted;
+
+        Reference(final Object message, final String id, final long occurrence) {
+            this.message = message;
+            this.id = id;
+            this.occurrence = occurrence;
+        }
+
+        /**
+         * Indicates whether the stack has already been logged in the current window, in which case the event should be
+         * logged without the throwable.
+         *
+         * @return {@code true} if this is a repeat of a stack
+         */
+        boolean isRepeat() {
+            return occurrence > 1L;
+        }
+
+        /**
+         * Returns the message which is tagged.
+         *
+         * @return the message, may be {@code null}
+         */
+        Object getMessage() {
+            return message;
+        }
+
+        /**
+         * Returns the fingerprint of the stack.
+         *
+         * @return the fingerprint
+         */
+        String getId() {
+            return id;
+        }
+
+        /**
+         * Returns the number of times the stack has been logged in the current window, including this event.
+         *
+         * @return the number of occurrences
+         */
+        long getOccurrence() {
+            return occurrence;
+        }
+
+        @Override
+        public String toString() {
+            String result = formatted;
+            if (result == null) {
+                result = format(message == null ? null : message.toString(), id, occurrence);
+                formatted = result;
+            }
+            return result;
+        }
+
+        /**
+         * Formats a tagged message, also used by the {@link BlackBoxDecoder} to restore the message of a reference.
+         *
+         * @param message    the formatted message, may be {@code null}
+         * @param id         the fingerprint of the stack
+         * @param occurrence the number of occurrences of the stack
+         *
+         * @return the tagged message
+         */
+        static String format(final String message, final String id, final long occurrence) {
+            final String prefix = message == null ? "" : message + " ";
+            if (occurrence > 1L) {
+                return String.format("%s(same stack as #%s, %,d occurrences)", prefix, id, occurrence);
+            }
+            return prefix + "[stack #" + id + "]";
+        }
+    }
+}
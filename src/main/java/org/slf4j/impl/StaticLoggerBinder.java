@@ -49,6 +49,7 @@ public class StaticLoggerBinder implements LoggerFactoryBinder {
 
     private StaticLoggerBinder() {
         loggerFactory = new JBossLoggerFactory();
+        JBossLoggerFactory.registerMetrics();
     }
 
     public ILoggerFactory getLoggerFactory() {
@@ -18,10 +18,13 @@
 package org.slf4j.impl;
 
 import org.jboss.slf4j.JBossMDCAdapter;
+import org.jboss.slf4j.PersistentMDCAdapter;
+import org.jboss.slf4j.ScopedMDCAdapter;
 import org.slf4j.spi.MDCAdapter;
 
 /**
- * This implementation is bound to {@link JBossMDCAdapter}.
+ * This implementation is bound to {@link JBossMDCAdapter}, or the {@link ScopedMDCAdapter} or
+ * {@link PersistentMDCAdapter} if one has been enabled.
  *
  * @author <a href="mailto:dimitris@jboss.org">Dimitris Andreadis</a>
  * @version <tt>$Revision: 2784 $</tt>
@@ -35,10 +38,13 @@ public class StaticMDCBinder {
     }
 
     public MDCAdapter getMDCA() {
-        return new JBossMDCAdapter();
+        if (ScopedMDCAdapter.isEnabled()) {
+            return new ScopedMDCAdapter();
+        }
+        return PersistentMDCAdapter.isEnabled() ? new PersistentMDCAdapter() : new JBossMDCAdapter();
     }
 
     public String getMDCAdapterClassStr() {
-        return JBossMDCAdapter.class.getName();
+        return getMDCA().getClass().getName();
     }
 }
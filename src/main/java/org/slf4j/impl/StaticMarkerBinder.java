@@ -17,12 +17,12 @@
  */
 package org.slf4j.impl;
 
+import org.jboss.slf4j.JBossMarkerFactory;
 import org.slf4j.IMarkerFactory;
-import org.slf4j.helpers.BasicMarkerFactory;
 import org.slf4j.spi.MarkerFactoryBinder;
 
 /**
- * This implementation is bound to {@link BasicMarkerFactory}.
+ * This implementation is bound to {@link JBossMarkerFactory}.
  *
  * @author <a href="mailto:dimitris@jboss.org">Dimitris Andreadis</a>
  * @version <tt>$Revision: 2784 $</tt>
@@ -32,7 +32,7 @@ public class StaticMarkerBinder implements MarkerFactoryBinder {
 
     public static final StaticMarkerBinder SINGLETON = new StaticMarkerBinder();
 
-    final IMarkerFactory markerFactory = new BasicMarkerFactory();
+    final IMarkerFactory markerFactory = new JBossMarkerFactory();
 
     private StaticMarkerBinder() {
         // empty
@@ -43,7 +43,7 @@ public class StaticMarkerBinder implements MarkerFactoryBinder {
     }
 
     public String getMarkerFactoryClassStr() {
-        return BasicMarkerFactory.class.getName();
+        return JBossMarkerFactory.class.getName();
     }
 
 }
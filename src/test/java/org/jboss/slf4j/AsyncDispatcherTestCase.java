@@ -0,0 +1,236 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+public class AsyncDispatcherTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void clearHandler() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testHandOff() {
+        final AsyncDispatcher dispatcher = AsyncDispatcher.start(16, AsyncDispatcher.OverflowPolicy.BLOCK, Level.INFO, 1,
+                true);
+        try {
+            final JBossLoggerAdapter adapter = adapter("handoff");
+            final Object[] args = { "first" };
+            MDC.put("user", "jboss");
+            try {
+                Caller.log(dispatcher, adapter, DeferredMessage.of("Async {}", args, 1));
+            } finally {
+                MDC.remove("user");
+            }
+            // changing the arguments after the hand-off must not change the message
+            args[0] = "changed";
+            Assertions.assertTrue(dispatcher.flush(10, TimeUnit.SECONDS));
+
+            final LogRecord record = HANDLER.messages.poll();
+            Assertions.assertNotNull(record);
+            Assertions.assertEquals("Async first", record.getMessage());
+            // the level of the provider and the thread of the caller, not the background thread
+            Assertions.assertSame(java.util.logging.Level.parse("INFO"), record.getLevel());
+            Assertions.assertEquals((int) Thread.currentThread().getId(), record.getThreadID());
+            Assertions.assertEquals(AsyncDispatcherTestCase.class.getName(), record.getSourceClassName());
+            Assertions.assertEquals("testHandOff", record.getSourceMethodName());
+            Assertions.assertEquals("jboss", HANDLER.context(record).get("user"));
+            Assertions.assertNull(MDC.get("user"));
+        } finally {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    public void testBatchHandOff() {
+        // the batch is larger than the buffer so it is claimed in parts
+        final AsyncDispatcher dispatcher = AsyncDispatcher.start(4, AsyncDispatcher.OverflowPolicy.BLOCK, Level.INFO, 1,
+                true);
+        try {
+            final JBossLoggerAdapter adapter = adapter("batch");
+            final Object[] messages = new Object[10];
+            final Throwable[] thrown = new Throwable[messages.length];
+            for (int i = 0; i < messages.length; i++) {
+                messages[i] = DeferredMessage.of("Batch {}", i);
+            }
+            thrown[3] = new RuntimeException("third");
+            MDC.put("user", "jboss");
+            try {
+                dispatcher.dispatchAll(adapter, Level.INFO, AsyncDispatcherTestCase.class.getName(), messages, thrown,
+                        messages.length);
+            } finally {
+                MDC.remove("user");
+            }
+            Assertions.assertTrue(dispatcher.flush(10, TimeUnit.SECONDS));
+
+            for (int i = 0; i < messages.length; i++) {
+                final LogRecord record = HANDLER.messages.poll();
+                Assertions.assertNotNull(record);
+                Assertions.assertEquals("Batch " + i, record.getMessage());
+                Assertions.assertSame(thrown[i], record.getThrown());
+                Assertions.assertEquals("jboss", HANDLER.context(record).get("user"));
+            }
+            Assertions.assertNull(HANDLER.messages.poll());
+        } finally {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    public void testDropLowestLevel() throws Exception {
+        final AsyncDispatcher dispatcher = AsyncDispatcher.start(2, AsyncDispatcher.OverflowPolicy.DROP_LOWEST_LEVEL,
+                Level.INFO, 1, false);
+        final BlockingHandler blocker = new BlockingHandler();
+        final JBossLoggerAdapter adapter = adapter("drop");
+        final java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger(adapter.getName());
+        julLogger.addHandler(blocker);
+        try {
+            fill(dispatcher, adapter, blocker);
+            dispatcher.dispatch(adapter, Level.INFO, AsyncDispatcherTestCase.class.getName(), "Dropped", null);
+            dispatcher.dispatch(adapter, Level.DEBUG, AsyncDispatcherTestCase.class.getName(), "Dropped", null);
+            Assertions.assertEquals(1L, dispatcher.droppedCount(Level.INFO));
+            Assertions.assertEquals(1L, dispatcher.droppedCount(Level.DEBUG));
+
+            // a more severe event waits for space
+            final Thread thread = new Thread(() -> dispatcher.dispatch(adapter, Level.ERROR,
+                    AsyncDispatcherTestCase.class.getName(), "Kept", null));
+            thread.start();
+            blocker.release.countDown();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            Assertions.assertTrue(dispatcher.flush(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(List.of("Blocking", "Queued", "Kept"), messages(adapter));
+            Assertions.assertEquals(2L, dispatcher.droppedCount());
+        } finally {
+            blocker.release.countDown();
+            julLogger.removeHandler(blocker);
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    public void testSample() throws Exception {
+        final AsyncDispatcher dispatcher = AsyncDispatcher.start(2, AsyncDispatcher.OverflowPolicy.SAMPLE, Level.INFO,
+                3, false);
+        final BlockingHandler blocker = new BlockingHandler();
+        final JBossLoggerAdapter adapter = adapter("sample");
+        final java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger(adapter.getName());
+        julLogger.addHandler(blocker);
+        try {
+            fill(dispatcher, adapter, blocker);
+            // two of every three overflowing events are dropped regardless of the level
+            dispatcher.dispatch(adapter, Level.ERROR, AsyncDispatcherTestCase.class.getName(), "Dropped", null);
+            dispatcher.dispatch(adapter, Level.DEBUG, AsyncDispatcherTestCase.class.getName(), "Dropped", null);
+            Assertions.assertEquals(2L, dispatcher.droppedCount());
+
+            final Thread thread = new Thread(() -> dispatcher.dispatch(adapter, Level.DEBUG,
+                    AsyncDispatcherTestCase.class.getName(), "Sampled", null));
+            thread.start();
+            blocker.release.countDown();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            Assertions.assertTrue(dispatcher.flush(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(List.of("Blocking", "Queued", "Sampled"), messages(adapter));
+        } finally {
+            blocker.release.countDown();
+            julLogger.removeHandler(blocker);
+            dispatcher.stop();
+        }
+    }
+
+    private static void fill(final AsyncDispatcher dispatcher, final JBossLoggerAdapter adapter,
+            final BlockingHandler blocker) throws InterruptedException {
+        // the first event blocks the dispatcher thread and keeps its slot until it has been logged
+        dispatcher.dispatch(adapter, Level.INFO, AsyncDispatcherTestCase.class.getName(), "Blocking", null);
+        Assertions.assertTrue(blocker.blocked.await(10, TimeUnit.SECONDS));
+        dispatcher.dispatch(adapter, Level.INFO, AsyncDispatcherTestCase.class.getName(), "Queued", null);
+    }
+
+    private static List<String> messages(final JBossLoggerAdapter adapter) {
+        final List<String> messages = new ArrayList<>();
+        LogRecord record;
+        while ((record = HANDLER.messages.poll()) != null) {
+            // ignore the report of the dropped events
+            if (adapter.getName().equals(record.getLoggerName())) {
+                messages.add(record.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    private static JBossLoggerAdapter adapter(final String name) {
+        final String loggerName = AsyncDispatcherTestCase.class.getName() + "." + name;
+        java.util.logging.Logger.getLogger(loggerName).setLevel(java.util.logging.Level.ALL);
+        return (JBossLoggerAdapter) LoggerFactory.getLogger(loggerName);
+    }
+
+    private static class Caller {
+        static void log(final AsyncDispatcher dispatcher, final JBossLoggerAdapter adapter, final Object message) {
+            dispatcher.dispatch(adapter, Level.INFO, Caller.class.getName(), message, null);
+        }
+    }
+
+    private static class BlockingHandler extends Handler {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void publish(final LogRecord record) {
+            blocked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws SecurityException {
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BlackBoxTestCase {
+    private static final String LOGGER = "org.jboss.slf4j.blackbox";
+
+    private Path dir;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("slf4j-jboss-logging");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testDecode() throws Exception {
+        final Path file = dir.resolve("blackbox.bin");
+        final BlackBox blackBox = BlackBox.open(file, 16);
+        final IllegalStateException cause = new IllegalStateException("Connection refused");
+        blackBox.record(LOGGER, Level.INFO, "Started", null);
+        blackBox.record(LOGGER, Level.DEBUG, DeferredMessage.of("Loaded {} of {}", 3, "orders"), null);
+        blackBox.record(LOGGER, Level.DEBUG, DeferredMessage.of("Values {} {} {} {}", new Object[] {
+                7L, 2.5d, true, null }, 4), null);
+        blackBox.record(LOGGER, Level.TRACE, PrimitiveMessage.of("Took {} ms, done {}", PrimitiveMessage.LONG,
+                PrimitiveMessage.encode(42L), PrimitiveMessage.BOOLEAN, PrimitiveMessage.encode(false)), null);
+        blackBox.record(LOGGER, Level.TRACE, PrimitiveMessage.of("Grade {} scored {}", PrimitiveMessage.CHAR,
+                PrimitiveMessage.encode('A'), PrimitiveMessage.FLOAT, PrimitiveMessage.encode(0.1f)), null);
+        blackBox.record(LOGGER, Level.TRACE, DeferredMessage.of("Grade {} scored {}", 'B', 0.2f), null);
+        blackBox.record(LOGGER, Level.ERROR, DeferredMessage.of("Failed {} {}", new int[] { 1, 2 }, Level.FATAL), cause);
+        blackBox.record("other", Level.WARN, null, null);
+
+        final List<String> lines = BlackBoxDecoder.decode(file);
+        Assertions.assertEquals(8, lines.size());
+        Assertions.assertTrue(lines.get(0).endsWith(" INFO [" + Thread.currentThread().getId() + "] " + LOGGER
+                + " - Started"), lines.get(0));
+        Assertions.assertTrue(lines.get(1).endsWith(" DEBUG [" + Thread.currentThread().getId() + "] " + LOGGER
+                + " - Loaded 3 of orders"), lines.get(1));
+        Assertions.assertTrue(lines.get(2).endsWith(" - Values 7 2.5 true null"), lines.get(2));
+        Assertions.assertTrue(lines.get(3).endsWith(" TRACE [" + Thread.currentThread().getId() + "] " + LOGGER
+                + " - Took 42 ms, done false"), lines.get(3));
+        Assertions.assertTrue(lines.get(4).endsWith(" - Grade A scored 0.1"), lines.get(4));
+        Assertions.assertTrue(lines.get(5).endsWith(" - Grade B scored 0.2"), lines.get(5));
+        Assertions.assertTrue(
+                lines.get(6).endsWith(" - Failed <[I> FATAL | java.lang.IllegalStateException: Connection refused"),
+                lines.get(6));
+        Assertions.assertTrue(lines.get(7).endsWith(" WARN [" + Thread.currentThread().getId() + "] other - null"),
+                lines.get(7));
+    }
+
+    @Test
+    public void testReference() throws Exception {
+        final Path file = dir.resolve("blackbox.bin");
+        final BlackBox blackBox = BlackBox.open(file, 16);
+        final IllegalStateException cause = new IllegalStateException("Connection refused");
+        final Object argument = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("The argument should not be formatted");
+            }
+        };
+        blackBox.record(LOGGER, Level.ERROR,
+                new StackDeduplicator.Reference(DeferredMessage.of("Failed {}", argument), "0badcafe", 1L), cause);
+        blackBox.record(LOGGER, Level.ERROR,
+                new StackDeduplicator.Reference(DeferredMessage.of("Failed {}", 2), "0badcafe", 3L), null);
+        blackBox.record(LOGGER, Level.ERROR, new StackDeduplicator.Reference(null, "0badcafe", 1L), cause);
+
+        final List<String> lines = BlackBoxDecoder.decode(file);
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertTrue(lines.get(0).endsWith(" - Failed <" + argument.getClass().getName()
+                + "> [stack #0badcafe] | java.lang.IllegalStateException: Connection refused"), lines.get(0));
+        Assertions.assertTrue(lines.get(1).endsWith(" - Failed 2 (same stack as #0badcafe, 3 occurrences)"),
+                lines.get(1));
+        Assertions.assertTrue(lines.get(2).endsWith(" - [stack #0badcafe]"
+                + " | java.lang.IllegalStateException: Connection refused"), lines.get(2));
+    }
+
+    @Test
+    public void testPrefix() throws Exception {
+        final Path file = dir.resolve("blackbox.bin");
+        final BlackBox blackBox = BlackBox.open(file, 16);
+        blackBox.record(LOGGER, Level.INFO, new DeferredMessage("Logged {}", 1, null, null, 1) {
+            @Override
+            String getPrefix() {
+                return "SQL ";
+            }
+        }, null);
+
+        final List<String> lines = BlackBoxDecoder.decode(file);
+        Assertions.assertEquals(1, lines.size());
+        Assertions.assertTrue(lines.get(0).endsWith(" - SQL Logged 1"), lines.get(0));
+    }
+
+    @Test
+    public void testWrap() throws Exception {
+        final Path file = dir.resolve("blackbox.bin");
+        final BlackBox blackBox = BlackBox.open(file, 5);
+        for (int i = 0; i < 20; i++) {
+            blackBox.record(LOGGER, Level.INFO, DeferredMessage.of("Event {}", i), null);
+        }
+        // rounded up to eight slots, the most recent events are kept in order
+        final List<String> lines = BlackBoxDecoder.decode(file);
+        Assertions.assertEquals(8, lines.size());
+        for (int i = 0; i < 8; i++) {
+            Assertions.assertTrue(lines.get(i).endsWith(" - Event " + (i + 12)), lines.get(i));
+        }
+    }
+
+    @Test
+    public void testConcurrentWrap() throws Exception {
+        final Path file = dir.resolve("blackbox.bin");
+        final BlackBox blackBox = BlackBox.open(file, 2);
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final long id = i;
+            threads[i] = new Thread(() -> {
+                for (long j = 0; j < 20_000; j++) {
+                    final long value = id * 1_000_000L + j;
+                    blackBox.record(LOGGER, Level.INFO, DeferredMessage.of("{} {}", value, value), null);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // writers which share a slot never leave a slot holding parts of two events
+        final List<String> lines = BlackBoxDecoder.decode(file);
+        Assertions.assertFalse(lines.isEmpty());
+        for (String line : lines) {
+            final String[] values = line.substring(line.indexOf(" - ") + 3).split(" ");
+            Assertions.assertEquals(values[0], values[1], line);
+        }
+    }
+
+    @Test
+    public void testTruncated() throws Exception {
+        final Path file = dir.resolve("blackbox.bin");
+        final BlackBox blackBox = BlackBox.open(file, 2);
+        final String text = "x".repeat(500);
+        blackBox.record(LOGGER, Level.INFO, text, null);
+        blackBox.record(LOGGER, Level.INFO, DeferredMessage.of("{} and {}", text, 1), null);
+
+        final List<String> lines = BlackBoxDecoder.decode(file);
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertTrue(lines.get(0).endsWith("xxx [truncated]"), lines.get(0));
+        Assertions.assertTrue(lines.get(0).length() < 300, lines.get(0));
+        // the argument which did not fit is left as a placeholder
+        Assertions.assertTrue(lines.get(1).endsWith("xxx and {} [truncated]"), lines.get(1));
+    }
+
+    @Test
+    public void testPreviousFile() throws Exception {
+        final Path file = dir.resolve("blackbox.bin");
+        BlackBox.open(file, 2).record(LOGGER, Level.ERROR, "Before the crash", null);
+        BlackBox.open(file, 2).record(LOGGER, Level.INFO, "After the restart", null);
+
+        final List<String> previous = BlackBoxDecoder.decode(dir.resolve("blackbox.bin.previous"));
+        Assertions.assertEquals(1, previous.size());
+        Assertions.assertTrue(previous.get(0).endsWith(" - Before the crash"), previous.get(0));
+        final List<String> current = BlackBoxDecoder.decode(file);
+        Assertions.assertEquals(1, current.size());
+        Assertions.assertTrue(current.get(0).endsWith(" - After the restart"), current.get(0));
+
+        Files.writeString(file, "not a black box file, but long enough to hold the header of one..");
+        Assertions.assertThrows(IOException.class, () -> BlackBoxDecoder.decode(file));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+public class ContextExecutorsTestCase {
+
+    @AfterEach
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    public void testExecutorService() throws Exception {
+        final ExecutorService delegate = Executors.newSingleThreadExecutor();
+        try {
+            // the worker has a context of its own which is restored after each task
+            delegate.submit(() -> MDC.put("worker", "value")).get();
+            final ExecutorService executor = ContextExecutors.wrap(delegate);
+
+            MDC.put("request", "one");
+            Assertions.assertEquals(Map.of("request", "one"), executor.submit(MDC::getCopyOfContextMap).get());
+            MDC.put("request", "two");
+            final List<Future<String>> results = executor.invokeAll(List.of(() -> MDC.get("request"), () -> {
+                MDC.put("request", "changed");
+                return MDC.get("worker");
+            }));
+            Assertions.assertEquals("two", results.get(0).get());
+            Assertions.assertNull(results.get(1).get());
+
+            Assertions.assertEquals(Map.of("worker", "value"), delegate.submit(MDC::getCopyOfContextMap).get());
+            Assertions.assertEquals("two", MDC.get("request"));
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testIdenticalContext() throws Exception {
+        MDC.put("request", "one");
+        final Map<String, String> context = MDC.getCopyOfContextMap();
+        // running on the current thread the context is already installed, changes made by the task are undone
+        ContextExecutors.wrap(() -> {
+            Assertions.assertEquals("one", MDC.get("request"));
+            MDC.put("task", "value");
+        }).run();
+        Assertions.assertEquals(context, MDC.getCopyOfContextMap());
+
+        final Callable<String> task = ContextExecutors.wrap(() -> MDC.get("request"));
+        MDC.put("request", "two");
+        Assertions.assertEquals("one", task.call());
+        Assertions.assertEquals("two", MDC.get("request"));
+    }
+
+    @Test
+    public void testUnchangedEntries() throws Exception {
+        final ExecutorService delegate = Executors.newSingleThreadExecutor();
+        try {
+            final String workerValue = new String("shared");
+            delegate.submit(() -> {
+                org.jboss.logging.MDC.put("shared", workerValue);
+                org.jboss.logging.MDC.put("worker", "value");
+            }).get();
+            final ExecutorService executor = ContextExecutors.wrap(delegate);
+
+            MDC.put("shared", "shared");
+            MDC.put("request", "one");
+            // the entry the worker already holds is not written again, the others are
+            Assertions.assertSame(workerValue, executor.submit(() -> org.jboss.logging.MDC.get("shared")).get());
+            Assertions.assertEquals(Map.of("shared", "shared", "request", "one"),
+                    executor.submit(MDC::getCopyOfContextMap).get());
+            Assertions.assertEquals(Map.of("shared", "shared", "worker", "value"),
+                    delegate.submit(MDC::getCopyOfContextMap).get());
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testScheduledExecutorService() throws Exception {
+        final ScheduledExecutorService executor = ContextExecutors.wrap(Executors.newSingleThreadScheduledExecutor());
+        try {
+            MDC.put("request", "scheduled");
+            Assertions.assertEquals("scheduled",
+                    executor.schedule(() -> MDC.get("request"), 1L, TimeUnit.MILLISECONDS).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCompletableFuture() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MDC.put("request", "future");
+            final CompletableFuture<String> future = ContextExecutors.supplyAsync(() -> MDC.get("request"), executor)
+                    .thenApplyAsync(value -> value + ":" + MDC.get("request"))
+                    .thenCombineAsync(ContextExecutors.supplyAsync(() -> MDC.get("request"), executor),
+                            (value, other) -> value + ":" + other);
+            Assertions.assertEquals("future:future:future", future.get(5L, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
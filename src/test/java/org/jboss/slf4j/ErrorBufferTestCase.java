@@ -0,0 +1,201 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * The surefire configuration buffers the events of this category below {@code INFO} in the {@code bufferScope} MDC
+ * key, up to four events for each thread.
+ */
+public class ErrorBufferTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+    private static final String KEY = "bufferScope";
+    // held so the level is not lost when the logger is collected
+    private static final java.util.logging.Logger JUL_LOGGER = java.util.logging.Logger
+            .getLogger(ErrorBufferTestCase.class.getName());
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+        // the log manager must allow the buffered levels
+        JUL_LOGGER.setLevel(Level.ALL);
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        JUL_LOGGER.setLevel(null);
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void reset() {
+        MDC.clear();
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testOutsideScope() {
+        final Logger logger = LoggerFactory.getLogger(ErrorBufferTestCase.class);
+        Assertions.assertTrue(ErrorBuffer.ENABLED);
+        Assertions.assertFalse(logger.isDebugEnabled());
+        Assertions.assertFalse(logger.isTraceEnabled());
+        Assertions.assertTrue(logger.isInfoEnabled());
+        logger.debug("Discarded");
+        logger.info("Logged");
+        logger.error("Failed");
+        Assertions.assertEquals("Logged", HANDLER.messages.poll().getMessage());
+        Assertions.assertEquals("Failed", HANDLER.messages.poll().getMessage());
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testFlushOnError() {
+        final Logger logger = LoggerFactory.getLogger(ErrorBufferTestCase.class);
+        MDC.put(KEY, "request-1");
+        Assertions.assertTrue(logger.isDebugEnabled());
+        logger.debug("Loaded {}", "order");
+        logger.trace("Validated {} lines", 3);
+        logger.info("Processing");
+        // only the events below INFO are buffered
+        Assertions.assertEquals("Processing", HANDLER.messages.poll().getMessage());
+        Assertions.assertNull(HANDLER.messages.poll());
+
+        logger.error("Failed");
+        LogRecord record = HANDLER.messages.poll();
+        Assertions.assertEquals("Loaded order", record.getMessage());
+        Assertions.assertEquals(Level.FINE, record.getLevel());
+        Assertions.assertEquals("request-1", HANDLER.context(record).get(KEY));
+        Assertions.assertEquals("testFlushOnError", record.getSourceMethodName());
+        record = HANDLER.messages.poll();
+        Assertions.assertEquals("Validated 3 lines", record.getMessage());
+        Assertions.assertEquals(Level.FINER, record.getLevel());
+        Assertions.assertEquals("Failed", HANDLER.messages.poll().getMessage());
+        Assertions.assertNull(HANDLER.messages.poll());
+
+        // the buffer is empty after it has been flushed
+        logger.error("Failed again");
+        Assertions.assertEquals("Failed again", HANDLER.messages.poll().getMessage());
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testOtherLoggerFlushes() {
+        final Logger logger = LoggerFactory.getLogger(ErrorBufferTestCase.class);
+        MDC.put(KEY, "request-2");
+        logger.debug("Buffered");
+        LoggerFactory.getLogger(ErrorBufferTestCase.class.getPackageName()).error("Failed elsewhere");
+        Assertions.assertEquals("Buffered", HANDLER.messages.poll().getMessage());
+        Assertions.assertEquals("Failed elsewhere", HANDLER.messages.poll().getMessage());
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testScopeEnds() {
+        final Logger logger = LoggerFactory.getLogger(ErrorBufferTestCase.class);
+        MDC.put(KEY, "request-3");
+        logger.debug("First scope");
+        // a new value is a new scope
+        MDC.put(KEY, "request-4");
+        logger.debug("Second scope");
+        MDC.remove(KEY);
+        Assertions.assertFalse(logger.isDebugEnabled());
+        MDC.put(KEY, "request-5");
+        logger.debug("Third scope");
+        logger.error("Failed");
+        Assertions.assertEquals("Third scope", HANDLER.messages.poll().getMessage());
+        Assertions.assertEquals("Failed", HANDLER.messages.poll().getMessage());
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testOverflow() {
+        final Logger logger = LoggerFactory.getLogger(ErrorBufferTestCase.class);
+        MDC.put(KEY, "request-6");
+        for (int i = 0; i < 6; i++) {
+            logger.debug("Event {}", i);
+        }
+        logger.error("Failed");
+        Assertions.assertEquals("2 earlier events were discarded as the buffer was full",
+                HANDLER.messages.poll().getMessage());
+        for (int i = 2; i < 6; i++) {
+            Assertions.assertEquals("Event " + i, HANDLER.messages.poll().getMessage());
+        }
+        Assertions.assertEquals("Failed", HANDLER.messages.poll().getMessage());
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testBatch() {
+        final JBossLoggerAdapter logger = (JBossLoggerAdapter) LoggerFactory.getLogger(ErrorBufferTestCase.class);
+        MDC.put(KEY, "request-7");
+        final LogBatch batch = logger.batch(org.slf4j.event.Level.DEBUG);
+        Assertions.assertTrue(batch.isEnabled());
+        batch.add("Row {}", 1).add("Row {}", 2).submit();
+        Assertions.assertNull(HANDLER.messages.poll());
+        logger.error("Failed");
+        Assertions.assertEquals("Row 1", HANDLER.messages.poll().getMessage());
+        Assertions.assertEquals("Row 2", HANDLER.messages.poll().getMessage());
+        Assertions.assertEquals("Failed", HANDLER.messages.poll().getMessage());
+    }
+
+    @Test
+    public void testEventBuilder() {
+        Assumptions.assumeTrue(isFluentApiAvailable(), "Requires the SLF4J 2 fluent API");
+        final Logger logger = LoggerFactory.getLogger(ErrorBufferTestCase.class);
+        MDC.put(KEY, "request-8");
+        // the builder reuses its arguments for the next event
+        logger.atDebug().log("First {} of {}", "order", 1);
+        logger.atDebug().addArgument("second").addArgument(() -> 2).log("Second {} of {}");
+        logger.atDebug().addKeyValue("order", 42).log("Third");
+        Assertions.assertNull(HANDLER.messages.poll());
+        Assertions.assertNull(MDC.get("order"));
+        logger.error("Failed");
+        Assertions.assertEquals("First order of 1", HANDLER.messages.poll().getMessage());
+        Assertions.assertEquals("Second second of 2", HANDLER.messages.poll().getMessage());
+        // the key/value pairs are kept with the buffered event
+        final LogRecord record = HANDLER.messages.poll();
+        Assertions.assertEquals("Third", record.getMessage());
+        Assertions.assertEquals("42", HANDLER.context(record).get("order"));
+        final LogRecord error = HANDLER.messages.poll();
+        Assertions.assertEquals("Failed", error.getMessage());
+        Assertions.assertNull(HANDLER.context(error).get("order"));
+        Assertions.assertNull(MDC.get("order"));
+    }
+
+    private static boolean isFluentApiAvailable() {
+        try {
+            Class.forName("org.slf4j.spi.LoggingEventBuilder");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        Assertions.assertTrue(FlightRecorderSupport.AVAILABLE);
+        final Logger logger = LoggerFactory.getLogger(FlightRecorderTestCase.class);
+        final Path file = Files.createTempFile("slf4j-jboss-logging", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(FlightRecorderSupport.LOG_EVENT).withThreshold(Duration.ZERO);
+                recording.enable(FlightRecorderSupport.RATE_EVENT).withPeriod(Duration.ofMillis(100L));
+                Assertions.assertFalse(FlightRecorderSupport.isLogEnabled());
+                recording.start();
+                Assertions.assertTrue(FlightRecorderSupport.isLogEnabled());
+                for (int i = 0; i < 10; i++) {
+                    logger.info("Recorded {}", i);
+                }
+                Thread.sleep(300L);
+                recording.stop();
+                recording.dump(file);
+            }
+            Assertions.assertFalse(FlightRecorderSupport.isLogEnabled());
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            final List<RecordedEvent> calls = events.stream()
+                    .filter(event -> event.getEventType().getName().equals(FlightRecorderSupport.LOG_EVENT))
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(10, calls.size());
+            final RecordedEvent call = calls.get(0);
+            Assertions.assertEquals(FlightRecorderTestCase.class.getName(), call.getString("loggerName"));
+            Assertions.assertEquals("INFO", call.getString("level"));
+            Assertions.assertTrue(call.getLong("formatDuration") > 0L);
+            Assertions.assertTrue(call.getLong("delegateDuration") > 0L);
+
+            final double info = events.stream()
+                    .filter(event -> event.getEventType().getName().equals(FlightRecorderSupport.RATE_EVENT))
+                    .mapToDouble(event -> event.getDouble("info"))
+                    .sum();
+            Assertions.assertTrue(info > 0.0, "No INFO rate was recorded");
+        } finally {
+            Files.deleteIfExists(file);
+            HANDLER.reset();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The surefire configuration enables the level cache for this test.
+ */
+public class LevelCacheTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+    // held so the level is not lost when the logger is collected
+    private static final java.util.logging.Logger JUL_LOGGER = java.util.logging.Logger
+            .getLogger(LevelCacheTestCase.class.getName());
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        JUL_LOGGER.setLevel(null);
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void reset() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testInvalidate() {
+        Assertions.assertTrue(LevelCache.ENABLED);
+        JUL_LOGGER.setLevel(Level.INFO);
+        JBossLoggerFactory.invalidateLevelCache();
+        final Logger logger = LoggerFactory.getLogger(LevelCacheTestCase.class);
+        Assertions.assertFalse(logger.isDebugEnabled());
+        Assertions.assertTrue(logger.isInfoEnabled());
+
+        // the cached level is used until the cache is invalidated
+        JUL_LOGGER.setLevel(Level.ALL);
+        Assertions.assertFalse(logger.isDebugEnabled());
+        logger.debug("Not logged");
+        Assertions.assertNull(HANDLER.messages.poll());
+
+        JBossLoggerFactory.invalidateLevelCache();
+        Assertions.assertTrue(logger.isTraceEnabled());
+        logger.debug("Logged {}", "debug");
+        Assertions.assertEquals("Logged debug", HANDLER.messages.poll().getMessage());
+
+        JUL_LOGGER.setLevel(Level.WARNING);
+        JBossLoggerFactory.invalidateLevelCache();
+        Assertions.assertFalse(logger.isInfoEnabled());
+        Assertions.assertTrue(logger.isWarnEnabled());
+        logger.info("Not logged");
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testState() {
+        final String name = LevelCacheTestCase.class.getName() + ".state";
+        final java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger(name);
+        final org.jboss.logging.Logger logger = org.jboss.logging.Logger.getLogger(name);
+        julLogger.setLevel(Level.INFO);
+
+        final int generation = LevelCache.generation();
+        int state = LevelCache.state(generation, logger);
+        Assertions.assertEquals(generation, LevelCache.generation(state));
+        Assertions.assertFalse(LevelCache.isEnabled(state, org.jboss.logging.Logger.Level.DEBUG));
+        Assertions.assertTrue(LevelCache.isEnabled(state, org.jboss.logging.Logger.Level.INFO));
+        Assertions.assertTrue(LevelCache.isEnabled(state, org.jboss.logging.Logger.Level.ERROR));
+
+        julLogger.setLevel(Level.OFF);
+        JBossLoggerFactory.invalidateLevelCache();
+        Assertions.assertNotEquals(generation, LevelCache.generation(), "The generation should have changed");
+        state = LevelCache.state(LevelCache.generation(), logger);
+        Assertions.assertFalse(LevelCache.isEnabled(state, org.jboss.logging.Logger.Level.FATAL));
+    }
+
+    @Test
+    public void testConfigurationUpdated() throws Exception {
+        JUL_LOGGER.setLevel(Level.INFO);
+        JBossLoggerFactory.invalidateLevelCache();
+        final Logger logger = LoggerFactory.getLogger(LevelCacheTestCase.class);
+        Assertions.assertFalse(logger.isDebugEnabled());
+
+        JUL_LOGGER.setLevel(Level.FINE);
+        // the log manager notifies its listeners even when the configuration does not change
+        LogManager.getLogManager().updateConfiguration(key -> (oldValue, newValue) -> oldValue);
+        Assertions.assertTrue(logger.isDebugEnabled());
+        Assertions.assertFalse(logger.isTraceEnabled());
+    }
+}
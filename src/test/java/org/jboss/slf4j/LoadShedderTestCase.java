@@ -0,0 +1,123 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import org.jboss.logging.Logger.Level;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class LoadShedderTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+    private static final long BUDGET = TimeUnit.MICROSECONDS.toNanos(100L);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void reset() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testHysteresis() {
+        // without an interval the threshold may change with every sample
+        final LoadShedder shedder = new LoadShedder(BUDGET, BUDGET / 2, 0L, 1);
+        Assertions.assertNull(shedder.getShedLevel());
+
+        shedder.record(SLOW);
+        Assertions.assertEquals(Level.TRACE, shedder.getShedLevel());
+        assertWarning("falling behind");
+        shedder.record(SLOW);
+        Assertions.assertEquals(Level.DEBUG, shedder.getShedLevel());
+        shedder.record(SLOW);
+        Assertions.assertEquals(Level.INFO, shedder.getShedLevel());
+        // WARN and more severe levels are never shed
+        shedder.record(SLOW);
+        Assertions.assertEquals(Level.INFO, shedder.getShedLevel());
+        HANDLER.reset();
+
+        // the average converges between the recovery budget and the budget, where nothing changes
+        for (int i = 0; i < 200; i++) {
+            shedder.record(BUDGET * 3 / 4);
+            Assertions.assertEquals(Level.INFO, shedder.getShedLevel());
+        }
+        Assertions.assertNull(HANDLER.messages.poll());
+
+        int samples = 0;
+        while (shedder.getShedLevel() != null) {
+            shedder.record(0L);
+            Assertions.assertTrue(++samples < 1_000, "The threshold was not restored");
+        }
+        LogRecord record;
+        String last = null;
+        while ((record = HANDLER.messages.poll()) != null) {
+            last = record.getMessage();
+        }
+        Assertions.assertNotNull(last);
+        Assertions.assertTrue(last.contains("recovered"), last);
+    }
+
+    @Test
+    public void testShed() {
+        final LoadShedder shedder = new LoadShedder(BUDGET, BUDGET / 2, TimeUnit.HOURS.toNanos(1L), 1_000_000);
+        Assertions.assertFalse(shedder.isShed(Level.TRACE));
+        shedder.record(SLOW);
+        Assertions.assertEquals(Level.TRACE, shedder.getShedLevel());
+        Assertions.assertTrue(shedder.isShed(Level.TRACE));
+        Assertions.assertFalse(shedder.isShed(Level.DEBUG));
+        // every call is measured while events are shed
+        Assertions.assertTrue(shedder.shouldMeasure());
+    }
+
+    @Test
+    public void testProbe() throws Exception {
+        final LoadShedder shedder = new LoadShedder(BUDGET, BUDGET / 2, TimeUnit.MILLISECONDS.toNanos(50L), 1);
+        shedder.record(SLOW);
+        Assertions.assertFalse(shedder.tryProbe());
+        Thread.sleep(60L);
+        // querying the level does not take the probe
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(shedder.isShed(Level.TRACE));
+        }
+        Assertions.assertTrue(shedder.tryProbe());
+        Assertions.assertFalse(shedder.tryProbe());
+        Assertions.assertTrue(shedder.isShed(Level.TRACE));
+    }
+
+    private static void assertWarning(final String text) {
+        final LogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals(java.util.logging.Level.WARNING.intValue(), record.getLevel().intValue());
+        Assertions.assertTrue(record.getMessage().contains(text), record.getMessage());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+public class LogBatchTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void reset() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testSubmit() {
+        final JBossLoggerAdapter logger = (JBossLoggerAdapter) LoggerFactory.getLogger(LogBatchTestCase.class);
+        final RuntimeException cause = new RuntimeException("cause");
+        final LogBatch batch = logger.batch(Level.INFO);
+        Assertions.assertTrue(batch.isEnabled());
+        for (int i = 0; i < 20; i++) {
+            batch.add("Event {}", i);
+        }
+        batch.add("Two {} and {}", "a", "b")
+                .add("Several {} {} {}", 1, 2, 3, cause)
+                .add("Failed", cause);
+        Assertions.assertEquals(23, batch.size());
+        // nothing is logged until the batch is submitted
+        Assertions.assertNull(HANDLER.messages.peek());
+        batch.submit();
+        Assertions.assertEquals(0, batch.size());
+
+        for (int i = 0; i < 20; i++) {
+            final LogRecord record = HANDLER.messages.poll();
+            Assertions.assertNotNull(record);
+            Assertions.assertEquals("Event " + i, record.getMessage());
+            Assertions.assertEquals(LogBatchTestCase.class.getName(), record.getSourceClassName());
+            Assertions.assertEquals("testSubmit", record.getSourceMethodName());
+        }
+        Assertions.assertEquals("Two a and b", HANDLER.messages.poll().getMessage());
+        LogRecord record = HANDLER.messages.poll();
+        Assertions.assertEquals("Several 1 2 3", record.getMessage());
+        Assertions.assertSame(cause, record.getThrown());
+        record = HANDLER.messages.poll();
+        Assertions.assertEquals("Failed", record.getMessage());
+        Assertions.assertSame(cause, record.getThrown());
+        Assertions.assertNull(HANDLER.messages.poll());
+
+        // the batch can be reused
+        batch.add("Reused").submit();
+        Assertions.assertEquals("Reused", HANDLER.messages.poll().getMessage());
+    }
+
+    @Test
+    public void testDisabled() {
+        final JBossLoggerAdapter logger = (JBossLoggerAdapter) LoggerFactory.getLogger(LogBatchTestCase.class);
+        final LogBatch batch = logger.batch(Level.TRACE);
+        Assertions.assertFalse(batch.isEnabled());
+        batch.add("Discarded {}", 1).add("Discarded");
+        Assertions.assertEquals(0, batch.size());
+        batch.submit();
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testLevelChanged() {
+        final JBossLoggerAdapter logger = (JBossLoggerAdapter) LoggerFactory.getLogger(LogBatchTestCase.class);
+        final java.util.logging.Logger julLogger = java.util.logging.Logger.getLogger(LogBatchTestCase.class.getName());
+        final LogBatch batch = logger.batch(Level.DEBUG);
+        Assertions.assertFalse(batch.isEnabled());
+        julLogger.setLevel(java.util.logging.Level.ALL);
+        try {
+            // the level is checked again when the batch is submitted
+            batch.add("Discarded").submit();
+            Assertions.assertTrue(batch.isEnabled());
+            batch.add("Logged").submit();
+            Assertions.assertEquals("Logged", HANDLER.messages.poll().getMessage());
+
+            batch.add("Added while enabled");
+            julLogger.setLevel(java.util.logging.Level.INFO);
+            batch.submit();
+            Assertions.assertFalse(batch.isEnabled());
+            Assertions.assertNull(HANDLER.messages.poll());
+        } finally {
+            julLogger.setLevel(null);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+public class LoggerFactoryTestCase {
+    private static final int NAME_COUNT = 64;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    public void testSameInstance() {
+        final JBossLoggerFactory factory = new JBossLoggerFactory();
+        final Logger logger = factory.getLogger(LoggerFactoryTestCase.class.getName());
+        Assertions.assertTrue(logger instanceof JBossLoggerAdapter);
+        Assertions.assertSame(logger, factory.getLogger(LoggerFactoryTestCase.class.getName()));
+        Assertions.assertEquals(LoggerFactoryTestCase.class.getName(), logger.getName());
+    }
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        final int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        final JBossLoggerFactory factory = new JBossLoggerFactory();
+        final List<Set<Logger>> results = run(factory, threads, "concurrent.creation.");
+        // Every thread must have seen exactly the same adapter for each name
+        final Set<Logger> all = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Set<Logger> result : results) {
+            Assertions.assertEquals(NAME_COUNT, result.size());
+            all.addAll(result);
+        }
+        Assertions.assertEquals(NAME_COUNT, all.size(), "Expected exactly one adapter per logger name");
+        Assertions.assertEquals(NAME_COUNT, factory.loggerMap.size());
+    }
+
+    private static List<Set<Logger>> run(final JBossLoggerFactory factory, final int threads, final String prefix)
+            throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Set<Logger>>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                futures.add(executor.submit(new Callable<Set<Logger>>() {
+                    @Override
+                    public Set<Logger> call() throws Exception {
+                        final Set<Logger> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+                        final String[] names = new String[NAME_COUNT];
+                        for (int i = 0; i < NAME_COUNT; i++) {
+                            names[i] = prefix + i;
+                        }
+                        start.await();
+                        for (int i = 0; i < ITERATIONS; i++) {
+                            final Logger logger = factory.getLogger(names[(i + offset) % NAME_COUNT]);
+                            if (i < NAME_COUNT) {
+                                seen.add(logger);
+                            }
+                        }
+                        return seen;
+                    }
+                }));
+            }
+            start.countDown();
+            final List<Set<Logger>> results = new ArrayList<>(threads);
+            for (Future<Set<Logger>> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LoggerMetricsTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void reset() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testCounts() throws Exception {
+        // the binding registers the metrics when SLF4J initializes it
+        final Logger noisy = LoggerFactory.getLogger("org.jboss.slf4j.metrics.noisy");
+        final Logger quiet = LoggerFactory.getLogger("org.jboss.slf4j.metrics.quiet");
+        final LoggingMetricsMXBean metrics = JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+                new ObjectName(LoggingMetricsMXBean.OBJECT_NAME), LoggingMetricsMXBean.class);
+        metrics.reset();
+
+        for (int i = 0; i < 1_000; i++) {
+            noisy.info("Event {}", i);
+            noisy.trace("Rejected {}", i);
+        }
+        quiet.warn("Quiet");
+        // querying a level is not a rejected event
+        Assertions.assertTrue(noisy.isInfoEnabled());
+        Assertions.assertFalse(quiet.isTraceEnabled());
+
+        Assertions.assertEquals(1_001L, metrics.getEmittedCount());
+        Assertions.assertEquals(1_000L, metrics.getRejectedCount());
+        final Map<String, Long> emitted = metrics.getEmittedCountByLevel();
+        Assertions.assertEquals(1_000L, emitted.get("INFO"));
+        Assertions.assertEquals(1L, emitted.get("WARN"));
+        Assertions.assertEquals(1_000L, metrics.getRejectedCountByLevel().get("TRACE"));
+        Assertions.assertArrayEquals(new String[] { "org.jboss.slf4j.metrics.noisy=1000" }, metrics.noisiestLoggers(1));
+        Assertions.assertEquals(2, metrics.noisiestLoggers(10).length);
+
+        // one in 64 events is timed
+        Assertions.assertTrue(metrics.getDelegateSampleCount() > 0L);
+        Assertions.assertTrue(metrics.getAverageDelegateTime() > 0.0);
+        Assertions.assertTrue(metrics.getFormatSampleCount() > 0L);
+
+        metrics.reset();
+        Assertions.assertEquals(0L, metrics.getEmittedCount());
+        Assertions.assertEquals(0, metrics.noisiestLoggers(10).length);
+    }
+}
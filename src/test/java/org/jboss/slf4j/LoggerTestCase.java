@@ -18,12 +18,7 @@
 
 package org.jboss.slf4j;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.function.Supplier;
-import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -35,34 +30,22 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.slf4j.spi.LocationAwareLogger;
 
 /**
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
 public class LoggerTestCase {
-    private static final java.util.logging.Logger ROOT = java.util.logging.Logger.getLogger("");
     private static final QueueHandler HANDLER = new QueueHandler();
-    private static final Collection<Handler> CURRENT_HANDLERS = new ArrayList<Handler>();
 
     @BeforeAll
     public static void configureLogManager() {
-        // By default JBoss Logging should choose JUL as a log manager since no log manager has been defined
-        final Handler[] currentHandlers = ROOT.getHandlers();
-        if (currentHandlers != null) {
-            for (Handler handler : currentHandlers) {
-                CURRENT_HANDLERS.add(handler);
-                ROOT.removeHandler(handler);
-            }
-        }
-        ROOT.addHandler(HANDLER);
+        HANDLER.install();
     }
 
     @AfterAll
     public static void cleanup() {
-        ROOT.removeHandler(HANDLER);
-        for (Handler handler : CURRENT_HANDLERS) {
-            ROOT.addHandler(handler);
-        }
+        HANDLER.uninstall();
     }
 
     @AfterEach
@@ -113,6 +96,47 @@ public class LoggerTestCase {
 
     }
 
+    @Test
+    public void testDeferredFormatting() {
+        final String name = LoggerTestCase.class.getName() + ".deferred";
+        java.util.logging.Logger.getLogger(name).setLevel(Level.INFO);
+        final LocationAwareLogger logger = (LocationAwareLogger) LoggerFactory.getLogger(name);
+        final CountingArgument arg = new CountingArgument();
+
+        // The log manager rejects the level so the message should never be formatted
+        logger.log(null, LoggerTestCase.class.getName(), LocationAwareLogger.DEBUG_INT, "Deferred {}", new Object[] { arg },
+                null);
+        Assertions.assertNull(HANDLER.messages.poll());
+        Assertions.assertEquals(0, arg.count, "The message should not have been formatted");
+
+        logger.log(null, LoggerTestCase.class.getName(), LocationAwareLogger.INFO_INT, "Deferred {}", new Object[] { arg },
+                null);
+        final LogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Deferred argument", record.getMessage());
+        Assertions.assertEquals(1, arg.count, "The message should have been formatted once");
+    }
+
+    @Test
+    public void testLocationAwareLevels() {
+        final String name = LoggerTestCase.class.getName() + ".bridged";
+        java.util.logging.Logger.getLogger(name).setLevel(Level.ALL);
+        final LocationAwareLogger logger = (LocationAwareLogger) LoggerFactory.getLogger(name);
+        final int[] levels = { LocationAwareLogger.TRACE_INT, LocationAwareLogger.DEBUG_INT, LocationAwareLogger.INFO_INT,
+                LocationAwareLogger.WARN_INT, LocationAwareLogger.ERROR_INT };
+        final String[] names = { "TRACE", "DEBUG", "INFO", "WARN", "ERROR" };
+        for (int i = 0; i < levels.length; i++) {
+            logger.log(null, LoggerTestCase.class.getName(), levels[i], "Bridged", null, null);
+            final LogRecord record = HANDLER.messages.poll();
+            Assertions.assertNotNull(record);
+            Assertions.assertEquals(names[i], record.getLevel().getName());
+        }
+        for (int level : new int[] { -10, 5, 50 }) {
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> logger.log(null, LoggerTestCase.class.getName(), level, "Invalid", null, null));
+        }
+    }
+
     @Test
     public void testMDC() {
         Assertions.assertSame(MDC.getMDCAdapter()
@@ -129,26 +153,13 @@ public class LoggerTestCase {
         return () -> String.format("Expected type %s but found type %s", expected.getName(), found.getName());
     }
 
-    private static class QueueHandler extends Handler {
-        final BlockingDeque<LogRecord> messages = new LinkedBlockingDeque<LogRecord>();
+    private static class CountingArgument {
+        int count;
 
         @Override
-        public void publish(final LogRecord record) {
-            messages.add(record);
-        }
-
-        @Override
-        public void flush() {
-        }
-
-        @Override
-        public void close() throws SecurityException {
-            messages.clear();
-        }
-
-        void reset() {
-            messages.clear();
-            setLevel(Level.ALL);
+        public String toString() {
+            count++;
+            return "argument";
         }
     }
 }
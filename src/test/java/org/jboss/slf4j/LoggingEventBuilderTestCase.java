@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
+
+/**
+ * Tests the SLF4J 2 fluent API. These tests are not run with the legacy SLF4J API.
+ */
+public class LoggingEventBuilderTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void clearHandler() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testDisabled() {
+        final String name = LoggingEventBuilderTestCase.class.getName() + ".disabled";
+        java.util.logging.Logger.getLogger(name).setLevel(Level.INFO);
+        final Logger logger = LoggerFactory.getLogger(name);
+        final AtomicInteger invocations = new AtomicInteger();
+
+        final LoggingEventBuilder builder = logger.atDebug();
+        Assertions.assertSame(NOPLoggingEventBuilder.singleton(), builder);
+        builder.addArgument(invocations::incrementAndGet).log("Not logged {}");
+        Assertions.assertEquals(0, invocations.get(), "The supplier should not have been invoked");
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+
+    @Test
+    public void testArguments() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        final RuntimeException e = new RuntimeException("Test exception");
+
+        logger.atInfo().addArgument("one").addArgument(() -> "two").log("Arguments {} and {}");
+        LogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Arguments one and two", record.getMessage());
+        Assertions.assertEquals(LoggingEventBuilderTestCase.class.getName(), record.getSourceClassName(),
+                "The caller should be the test and not the builder");
+
+        logger.atWarn().setCause(e).setMessage(() -> "Supplied {} {}").addArgument(1).log();
+        record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Supplied 1 {}", record.getMessage());
+        Assertions.assertEquals(e, record.getThrown());
+
+        // a trailing throwable is the cause when no cause was set
+        logger.atError().log("Trailing {}", "throwable", e);
+        record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Trailing throwable", record.getMessage());
+        Assertions.assertEquals(e, record.getThrown());
+    }
+
+    @Test
+    public void testReuse() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        final LoggingEventBuilder builder = logger.atInfo();
+        builder.log("First");
+        Assertions.assertSame(builder, logger.atInfo(), "Expected the builder to be reused by the thread");
+
+        // a supplier which logs must not clobber the outer event
+        logger.atInfo().addArgument(() -> {
+            logger.atInfo().log("Inner {}", "event");
+            return "argument";
+        }).log("Outer {}");
+        LogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("First", record.getMessage());
+        record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Inner event", record.getMessage());
+        record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Outer argument", record.getMessage());
+    }
+
+    @Test
+    public void testKeyValues() {
+        final Logger logger = LoggerFactory.getLogger(LoggingEventBuilderTestCase.class);
+        MDC.put("existing", "value");
+        try {
+            logger.atInfo()
+                    .addKeyValue("user", "jboss")
+                    .addKeyValue("count", () -> 3)
+                    .addKeyValue("existing", "overlay")
+                    .log("Key values");
+            final LogRecord record = HANDLER.messages.poll();
+            Assertions.assertNotNull(record);
+            // the key/value pairs are not merged into the message
+            Assertions.assertEquals("Key values", record.getMessage());
+            final Map<String, Object> context = HANDLER.context(record);
+            Assertions.assertEquals("jboss", context.get("user"));
+            Assertions.assertEquals("3", context.get("count"));
+            Assertions.assertEquals("overlay", context.get("existing"));
+
+            // the MDC should be restored after the record has been logged
+            Assertions.assertNull(MDC.get("user"));
+            Assertions.assertNull(MDC.get("count"));
+            Assertions.assertEquals("value", MDC.get("existing"));
+        } finally {
+            MDC.remove("existing");
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.spi.LocationAwareLogger;
+
+/**
+ * Tests the marker level overrides configured in the {@code pom.xml}.
+ */
+public class MarkerTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    private static final Marker SQL = MarkerFactory.getMarker("TEST_SQL");
+    private static final Marker AUDIT = MarkerFactory.getMarker("TEST_AUDIT");
+    private static final Marker QUIET = MarkerFactory.getMarker("TEST_QUIET");
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void clearHandler() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testMarkerFactory() {
+        Assertions.assertTrue(SQL instanceof JBossMarker, "Expected a JBossMarker but got " + SQL.getClass());
+        Assertions.assertSame(SQL, MarkerFactory.getMarker("TEST_SQL"));
+        Assertions.assertTrue(MarkerLevels.ENABLED);
+        Assertions.assertFalse(MarkerLevels.UNMARKED_ENABLED);
+
+        final int sql = MarkerLevels.mask(SQL);
+        final int audit = MarkerLevels.mask(AUDIT);
+        Assertions.assertNotEquals(0, sql);
+        Assertions.assertNotEquals(0, audit);
+        Assertions.assertEquals(0, sql & audit, "Each marker should have its own bit");
+        Assertions.assertEquals(0, MarkerLevels.mask(MarkerFactory.getDetachedMarker("TEST_NONE")));
+
+        final Marker parent = MarkerFactory.getDetachedMarker("TEST_PARENT");
+        parent.add(SQL);
+        parent.add(AUDIT);
+        Assertions.assertEquals(sql | audit, MarkerLevels.mask(parent));
+        parent.remove(AUDIT);
+        Assertions.assertEquals(sql, MarkerLevels.mask(parent));
+        Assertions.assertEquals("TEST_PARENT [ TEST_SQL ]", parent.toString());
+    }
+
+    @Test
+    public void testOverrides() {
+        final String name = MarkerTestCase.class.getName() + ".overrides";
+        java.util.logging.Logger.getLogger(name).setLevel(Level.ALL);
+        final Logger logger = LoggerFactory.getLogger(name);
+
+        Assertions.assertFalse(logger.isDebugEnabled(SQL));
+        logger.debug(SQL, "Not logged {}", "sql");
+        Assertions.assertNull(HANDLER.messages.poll());
+        logger.warn(SQL, "Logged {}", "sql");
+        assertMessage("Logged sql");
+
+        logger.error(QUIET, "Not logged");
+        Assertions.assertNull(HANDLER.messages.poll());
+
+        // a marker without an override is checked against the logger level
+        logger.trace(MarkerFactory.getDetachedMarker("TEST_NONE"), "Logged {}", "none");
+        assertMessage("Logged none");
+
+        // any marker which allows the level enables the event
+        final Marker both = MarkerFactory.getDetachedMarker("TEST_BOTH");
+        both.add(SQL);
+        logger.debug(both, "Not logged");
+        Assertions.assertNull(HANDLER.messages.poll());
+        both.add(AUDIT);
+        logger.debug(both, "Logged {} and {}", "sql", "audit");
+        assertMessage("Logged sql and audit");
+
+        // markers from other factories are checked by name
+        final Marker foreign = new BasicMarkerFactory().getMarker("TEST_SQL");
+        logger.info(foreign, "Not logged");
+        Assertions.assertNull(HANDLER.messages.poll());
+
+        final LocationAwareLogger locationAwareLogger = (LocationAwareLogger) logger;
+        locationAwareLogger.log(SQL, MarkerTestCase.class.getName(), LocationAwareLogger.INFO_INT, "Not logged", null,
+                null);
+        Assertions.assertNull(HANDLER.messages.poll());
+        locationAwareLogger.log(AUDIT, MarkerTestCase.class.getName(), LocationAwareLogger.INFO_INT, "Logged", null,
+                null);
+        assertMessage("Logged");
+    }
+
+    @Test
+    public void testLogManagerLevel() {
+        final String name = MarkerTestCase.class.getName() + ".logmanager";
+        java.util.logging.Logger.getLogger(name).setLevel(Level.INFO);
+        final Logger logger = LoggerFactory.getLogger(name);
+
+        // the log manager still rejects levels below the level of the logger
+        Assertions.assertFalse(logger.isTraceEnabled(AUDIT));
+        logger.trace(AUDIT, "Not logged");
+        Assertions.assertNull(HANDLER.messages.poll());
+        logger.info(AUDIT, "Logged");
+        assertMessage("Logged");
+    }
+
+    @Test
+    public void testEventBuilder() {
+        Assumptions.assumeTrue(isFluentApiAvailable(), "Requires the SLF4J 2 fluent API");
+        final Logger logger = LoggerFactory.getLogger(MarkerTestCase.class);
+        final AtomicInteger invocations = new AtomicInteger();
+
+        logger.atInfo().addMarker(SQL).addArgument(invocations::incrementAndGet).log("Not logged {}");
+        Assertions.assertNull(HANDLER.messages.poll());
+        Assertions.assertEquals(0, invocations.get(), "The supplier should not have been invoked");
+
+        logger.atWarn().addMarker(SQL).log("Logged");
+        assertMessage("TEST_SQL Logged");
+
+        logger.atWarn().addMarker(SQL).log("Logged {}", "query");
+        assertMessage("TEST_SQL Logged query");
+    }
+
+    private static boolean isFluentApiAvailable() {
+        try {
+            Class.forName("org.slf4j.spi.LoggingEventBuilder");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static void assertMessage(final String expected) {
+        final LogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record, "Expected a record with message " + expected);
+        Assertions.assertEquals(expected, record.getMessage());
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Verifies the {@link JBossMessageFormatter} produces the same output as the SLF4J {@link MessageFormatter}.
+ */
+public class MessageFormatterTestCase {
+
+    private static final String[] PATTERNS = {
+            null,
+            "",
+            "No placeholders",
+            "{}",
+            "Value {}",
+            "{} and {}",
+            "{} {} {} {}",
+            "Value {} tail",
+            "Escaped \\{} value {}",
+            "Double escaped \\\\{} value {}",
+            "Unbalanced { and } and {}",
+            "Trailing escape {} \\{}",
+            "{}{}{}",
+            "a {} b \\{} c {} d",
+            "\\{}{}",
+            "\\\\{}",
+            "{}}{{}",
+    };
+
+    @Test
+    public void testSingleArgument() {
+        final Object[] args = { null, "value", 42, 3.14, new Object[] { "a", "b" }, new int[] { 1, 2 } };
+        for (String pattern : PATTERNS) {
+            for (Object arg : args) {
+                Assertions.assertEquals(MessageFormatter.format(pattern, arg).getMessage(),
+                        JBossMessageFormatter.format(pattern, arg), () -> "Pattern: " + pattern);
+            }
+        }
+    }
+
+    @Test
+    public void testTwoArguments() {
+        for (String pattern : PATTERNS) {
+            Assertions.assertEquals(MessageFormatter.format(pattern, "one", 2).getMessage(),
+                    JBossMessageFormatter.format(pattern, "one", 2), () -> "Pattern: " + pattern);
+            Assertions.assertEquals(MessageFormatter.format(pattern, null, null).getMessage(),
+                    JBossMessageFormatter.format(pattern, null, null), () -> "Pattern: " + pattern);
+        }
+    }
+
+    @Test
+    public void testArrayArguments() {
+        final Object[] args = { "one", 2, '3', 4L, true };
+        for (String pattern : PATTERNS) {
+            Assertions.assertEquals(MessageFormatter.arrayFormat(pattern, args).getMessage(),
+                    JBossMessageFormatter.format(pattern, args, args.length), () -> "Pattern: " + pattern);
+            Assertions.assertEquals(MessageFormatter.arrayFormat(pattern, new Object[0]).getMessage(),
+                    JBossMessageFormatter.format(pattern, new Object[0], 0), () -> "Pattern: " + pattern);
+            // fewer arguments than anchors leaves the remaining text, including escapes, as is
+            for (int count = 1; count < args.length; count++) {
+                final int c = count;
+                Assertions.assertEquals(MessageFormatter.arrayFormat(pattern, Arrays.copyOf(args, count)).getMessage(),
+                        JBossMessageFormatter.format(pattern, args, count), () -> "Pattern: " + pattern + " count " + c);
+            }
+        }
+    }
+
+    @Test
+    public void testTemplate() {
+        final MessageTemplate template = MessageTemplate.of("a {} b \\{} c \\\\{} d");
+        Assertions.assertEquals(3, template.anchors());
+        Assertions.assertEquals(2, template.placeholders);
+        Assertions.assertSame(template, MessageTemplate.of(new String("a {} b \\{} c \\\\{} d")),
+                "Expected the cached template");
+        Assertions.assertEquals(0, MessageTemplate.of("No anchors").anchors());
+    }
+
+    @Test
+    public void testTemplateCacheEviction() {
+        // dynamically built patterns replace each other but are still formatted correctly
+        for (int i = 0; i < 100_000; i++) {
+            final String pattern = "Dynamic " + i + " {}";
+            Assertions.assertEquals("Dynamic " + i + " value", JBossMessageFormatter.format(pattern, "value"));
+        }
+    }
+
+    @Test
+    public void testArrays() {
+        final Object[] selfReferencing = new Object[2];
+        selfReferencing[0] = "self";
+        selfReferencing[1] = selfReferencing;
+        final Object[] sibling = { "sibling" };
+        final Object[] args = {
+                new boolean[] { true, false },
+                new byte[] { 1, 2 },
+                new char[] { 'a', 'b' },
+                new short[] { 3, 4 },
+                new int[] { 5, 6 },
+                new long[] { 7L, 8L },
+                new float[] { 1.5f, 2.5f },
+                new double[] { 3.5d, 4.5d },
+                new Object[] { "nested", new Object[] { 1, new int[] { 2, 3 } } },
+                selfReferencing,
+                new Object[] { sibling, sibling },
+                new String[0],
+        };
+        for (Object arg : args) {
+            Assertions.assertEquals(MessageFormatter.format("Array {}", arg).getMessage(),
+                    JBossMessageFormatter.format("Array {}", arg));
+        }
+    }
+
+    @Test
+    public void testThrowable() {
+        final RuntimeException e = new RuntimeException("test");
+        final Object[] args = { "one", e };
+        Assertions.assertSame(e, JBossMessageFormatter.getThrowableCandidate(args));
+        Assertions.assertEquals(1, JBossMessageFormatter.argumentCount(args));
+        Assertions.assertEquals(MessageFormatter.arrayFormat("{} {}", args).getMessage(),
+                JBossMessageFormatter.format("{} {}", args, JBossMessageFormatter.argumentCount(args)));
+
+        final Object[] noThrowable = { e, "two" };
+        Assertions.assertNull(JBossMessageFormatter.getThrowableCandidate(noThrowable));
+        Assertions.assertEquals(2, JBossMessageFormatter.argumentCount(noThrowable));
+        Assertions.assertNull(JBossMessageFormatter.getThrowableCandidate(null));
+        Assertions.assertEquals(0, JBossMessageFormatter.argumentCount(null));
+    }
+
+    @Test
+    public void testFailedToString() {
+        final Object bad = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("Expected failure");
+            }
+        };
+        Assertions.assertEquals(MessageFormatter.format("Bad {}", bad).getMessage(),
+                JBossMessageFormatter.format("Bad {}", bad));
+    }
+
+    @Test
+    public void testReentrant() {
+        final Object nested = new Object() {
+            @Override
+            public String toString() {
+                return JBossMessageFormatter.format("inner {}", "value");
+            }
+        };
+        Assertions.assertEquals("outer inner value end", JBossMessageFormatter.format("outer {} {}", nested, "end"));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PersistentMDCAdapterTestCase {
+    private final PersistentMDCAdapter adapter = new PersistentMDCAdapter();
+
+    @AfterEach
+    public void clearMdc() {
+        adapter.clear();
+    }
+
+    @Test
+    public void testWriteThrough() {
+        adapter.put("key1", "value1");
+        adapter.put("key2", "value2");
+        Assertions.assertEquals("value1", adapter.get("key1"));
+        Assertions.assertEquals("value1", MDC.get("key1"));
+        Assertions.assertEquals("value2", MDC.get("key2"));
+
+        adapter.remove("key1");
+        Assertions.assertNull(adapter.get("key1"));
+        Assertions.assertNull(MDC.get("key1"));
+
+        // entries written directly to the MDC can still be read
+        MDC.put("direct", "value");
+        Assertions.assertEquals("value", adapter.get("direct"));
+
+        adapter.clear();
+        Assertions.assertNull(adapter.get("key2"));
+        Assertions.assertNull(MDC.get("key2"));
+        Assertions.assertNull(MDC.get("direct"));
+    }
+
+    @Test
+    public void testSnapshot() {
+        adapter.put("key1", "value1");
+        adapter.put("key2", "value2");
+        final Map<String, String> snapshot = adapter.getCopyOfContextMap();
+        Assertions.assertEquals(Map.of("key1", "value1", "key2", "value2"), snapshot);
+        Assertions.assertEquals(List.of("key1", "key2"), List.copyOf(snapshot.keySet()));
+
+        // changes to the thread are not visible in the snapshot
+        adapter.put("key1", "changed");
+        adapter.put("key3", "value3");
+        Assertions.assertEquals(Map.of("key1", "value1", "key2", "value2"), snapshot);
+
+        // changes to the snapshot are not visible to the thread
+        snapshot.put("key4", "value4");
+        snapshot.remove("key2");
+        Assertions.assertEquals(Map.of("key1", "value1", "key4", "value4"), snapshot);
+        Assertions.assertEquals("value2", adapter.get("key2"));
+        Assertions.assertNull(adapter.get("key4"));
+
+        adapter.setContextMap(snapshot);
+        Assertions.assertEquals(snapshot, adapter.getCopyOfContextMap());
+        Assertions.assertEquals("value1", MDC.get("key1"));
+        Assertions.assertNull(MDC.get("key2"));
+        Assertions.assertNull(MDC.get("key3"));
+        Assertions.assertEquals("value4", MDC.get("key4"));
+    }
+
+    @Test
+    public void testSetContextMap() {
+        adapter.put("key1", "value1");
+        final Map<String, String> map = new LinkedHashMap<>();
+        map.put("key2", "value2");
+        map.put(null, "ignored");
+        adapter.setContextMap(map);
+        Assertions.assertEquals(Map.of("key2", "value2"), adapter.getCopyOfContextMap());
+        Assertions.assertNull(MDC.get("key1"));
+        Assertions.assertEquals("value2", MDC.get("key2"));
+
+        adapter.setContextMap(Map.of());
+        Assertions.assertTrue(adapter.getCopyOfContextMap().isEmpty());
+        Assertions.assertNull(MDC.get("key2"));
+    }
+
+    @Test
+    public void testSnapshotIterator() {
+        adapter.put("key1", "value1");
+        adapter.put("key2", "value2");
+        final Map<String, String> snapshot = adapter.getCopyOfContextMap();
+        snapshot.entrySet().removeIf(entry -> entry.getKey().equals("key1"));
+        Assertions.assertEquals(Map.of("key2", "value2"), snapshot);
+        Assertions.assertEquals("value1", adapter.get("key1"));
+    }
+}
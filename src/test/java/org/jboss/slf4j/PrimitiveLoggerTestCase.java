@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+
+public class PrimitiveLoggerTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void reset() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testFormatting() {
+        final PrimitiveLogger logger = logger("formatting", Level.ALL);
+        logger.info("int {}", Integer.MIN_VALUE);
+        assertMessage(MessageFormatter.format("int {}", Integer.MIN_VALUE).getMessage());
+        logger.info("long {}", Long.MAX_VALUE);
+        assertMessage(MessageFormatter.format("long {}", Long.MAX_VALUE).getMessage());
+        logger.info("double {}", -0.1d);
+        assertMessage(MessageFormatter.format("double {}", -0.1d).getMessage());
+        logger.info("double {}", Double.NaN);
+        assertMessage("double NaN");
+        logger.info("boolean {}", true);
+        assertMessage("boolean true");
+        logger.info("char {}", 'x');
+        assertMessage(MessageFormatter.format("char {}", 'x').getMessage());
+        logger.info("float {}", 0.1f);
+        assertMessage(MessageFormatter.format("float {}", 0.1f).getMessage());
+
+        logger.warn("Wrote {} rows in {} ns", 42, 1_500_000_000L);
+        assertMessage("Wrote 42 rows in 1500000000 ns");
+        logger.error("Ratio {} of {}", 0.75d, 12);
+        assertMessage("Ratio 0.75 of 12");
+        logger.debug("Flags {} and {}", false, true);
+        assertMessage("Flags false and true");
+        logger.trace("{} {}", 7L, false);
+        assertMessage("7 false");
+        logger.info("Grade {} scored {}", 'A', 0.1f);
+        assertMessage("Grade A scored 0.1");
+    }
+
+    @Test
+    public void testPatterns() {
+        final PrimitiveLogger logger = logger("patterns", Level.ALL);
+        // escaped anchors, missing anchors and extra anchors behave as they do for objects
+        logger.info("Escaped \\{} then {}", 1);
+        assertMessage(MessageFormatter.format("Escaped \\{} then {}", 1).getMessage());
+        logger.info("No anchors", 1, 2);
+        assertMessage("No anchors");
+        logger.info("One {}", 1, 2);
+        assertMessage("One 1");
+        logger.info("Three {} {} {}", 1, 2);
+        assertMessage("Three 1 2 {}");
+    }
+
+    @Test
+    public void testDisabled() {
+        final PrimitiveLogger logger = logger("disabled", Level.INFO);
+        logger.debug("Disabled {}", 1L);
+        logger.trace("Disabled {} {}", 1, 2.0d);
+        Assertions.assertNull(HANDLER.messages.poll());
+        logger.info("Enabled {}", 1L);
+        assertMessage("Enabled 1");
+    }
+
+    private static void assertMessage(final String expected) {
+        final LogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals(expected, record.getMessage());
+    }
+
+    private static PrimitiveLogger logger(final String name, final Level level) {
+        final String loggerName = PrimitiveLoggerTestCase.class.getName() + "." + name;
+        java.util.logging.Logger.getLogger(loggerName).setLevel(level);
+        return (PrimitiveLogger) LoggerFactory.getLogger(loggerName);
+    }
+}
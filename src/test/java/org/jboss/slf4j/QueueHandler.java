@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.jboss.logging.MDC;
+
+/**
+ * A handler which queues the records it receives.
+ */
+class QueueHandler extends Handler {
+    private static final java.util.logging.Logger ROOT = java.util.logging.Logger.getLogger("");
+
+    final BlockingDeque<LogRecord> messages = new LinkedBlockingDeque<LogRecord>();
+    private final Map<LogRecord, Map<String, Object>> contexts = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Collection<Handler> currentHandlers = new ArrayList<Handler>();
+
+    /**
+     * Replaces the handlers on the root logger with this handler.
+     */
+    void install() {
+        // By default JBoss Logging should choose JUL as a log manager since no log manager has been defined
+        final Handler[] handlers = ROOT.getHandlers();
+        if (handlers != null) {
+            for (Handler handler : handlers) {
+                currentHandlers.add(handler);
+                ROOT.removeHandler(handler);
+            }
+        }
+        ROOT.addHandler(this);
+    }
+
+    /**
+     * Removes this handler from the root logger and restores the previous handlers.
+     */
+    void uninstall() {
+        ROOT.removeHandler(this);
+        for (Handler handler : currentHandlers) {
+            ROOT.addHandler(handler);
+        }
+        currentHandlers.clear();
+    }
+
+    @Override
+    public void publish(final LogRecord record) {
+        // the caller is resolved lazily, resolve it while the caller is still on the stack
+        record.getSourceClassName();
+        // JUL records do not carry the MDC, capture it as a formatter would
+        contexts.put(record, new HashMap<>(MDC.getMap()));
+        messages.add(record);
+    }
+
+    /**
+     * Returns the MDC as it was when the record was published.
+     *
+     * @param record the record
+     *
+     * @return the MDC when the record was published
+     */
+    Map<String, Object> context(final LogRecord record) {
+        return contexts.get(record);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        messages.clear();
+        contexts.clear();
+    }
+
+    void reset() {
+        messages.clear();
+        contexts.clear();
+        setLevel(Level.ALL);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.logging.LogRecord;
+
+import org.jboss.logging.Logger.Level;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+public class RateLimiterTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    private final JBossLoggerAdapter adapter = (JBossLoggerAdapter) LoggerFactory.getLogger(RateLimiterTestCase.class);
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void reset() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testBurst() {
+        // one event per second with a burst of three
+        final RateLimiter limiter = new RateLimiter(adapter, 1, 3);
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(limiter.tryAcquire(Level.WARN, DeferredMessage.of("Failed {}", i)));
+        }
+        Assertions.assertFalse(limiter.tryAcquire(Level.WARN, DeferredMessage.of("Failed {}", 3)));
+        Assertions.assertFalse(limiter.tryAcquire(Level.WARN, "Failed {}"));
+
+        // each template has its own bucket
+        Assertions.assertTrue(limiter.tryAcquire(Level.WARN, DeferredMessage.of("Other {}", 1)));
+    }
+
+    @Test
+    public void testRefill() throws Exception {
+        final RateLimiter limiter = new RateLimiter(adapter, 100, 1);
+        Assertions.assertTrue(limiter.tryAcquire(Level.INFO, "Refill"));
+        Assertions.assertFalse(limiter.tryAcquire(Level.INFO, "Refill"));
+        Thread.sleep(20L);
+        Assertions.assertTrue(limiter.tryAcquire(Level.INFO, "Refill"));
+    }
+
+    @Test
+    public void testSummary() {
+        final RateLimiter limiter = new RateLimiter(adapter, 1, 1);
+        Assertions.assertTrue(limiter.tryAcquire(Level.ERROR, "Failed {}"));
+        for (int i = 0; i < 1500; i++) {
+            Assertions.assertFalse(limiter.tryAcquire(Level.ERROR, DeferredMessage.of("Failed {}", i)));
+        }
+        Assertions.assertTrue(limiter.summarize(10L));
+        final LogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("Suppressed 1,500 similar messages in the last 10s: Failed {}", record.getMessage());
+        Assertions.assertEquals(java.util.logging.Level.SEVERE.intValue(), record.getLevel().intValue());
+
+        // the counts are reset once summarized, so there is nothing further to report
+        Assertions.assertFalse(limiter.summarize(10L));
+        Assertions.assertNull(HANDLER.messages.poll());
+    }
+}
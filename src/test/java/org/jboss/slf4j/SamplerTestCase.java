@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.logging.LogRecord;
+
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+public class SamplerTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void reset() {
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testRates() {
+        final Sampler.Rule[] rules = Sampler
+                .parse("com.acme.cache=DEBUG:100, com.acme=TRACE:1000, invalid, com.acme.cache.local=debug:1");
+        Assertions.assertEquals(3, rules.length);
+
+        final int[] cache = Sampler.rates(rules, "com.acme.cache.remote");
+        Assertions.assertNotNull(cache);
+        Assertions.assertEquals(100, cache[Level.DEBUG.ordinal()]);
+        Assertions.assertEquals(100, cache[Level.TRACE.ordinal()]);
+        Assertions.assertEquals(0, cache[Level.INFO.ordinal()]);
+
+        final int[] acme = Sampler.rates(rules, "com.acme.web");
+        Assertions.assertNotNull(acme);
+        Assertions.assertEquals(0, acme[Level.DEBUG.ordinal()]);
+        Assertions.assertEquals(1000, acme[Level.TRACE.ordinal()]);
+
+        // a rate of one logs every event, so the child category is not sampled at all
+        Assertions.assertNull(Sampler.rates(rules, "com.acme.cache.local"));
+
+        // only whole segments of the category match
+        Assertions.assertNull(Sampler.rates(rules, "com.acmecorp"));
+        Assertions.assertNull(Sampler.rates(rules, "org.other"));
+    }
+
+    @Test
+    public void testLongestMatch() {
+        final Sampler.Rule[] rules = Sampler
+                .parse("com.acme.db=TRACE:10, com.acme=DEBUG:100, com.acme.db=TRACE:20, com.acme.db.pool=INFO:1");
+        // the shorter category does not apply to the levels the longer one leaves out
+        final int[] db = Sampler.rates(rules, "com.acme.db.query");
+        Assertions.assertNotNull(db);
+        Assertions.assertEquals(0, db[Level.DEBUG.ordinal()]);
+        // the later rule of the same category wins
+        Assertions.assertEquals(20, db[Level.TRACE.ordinal()]);
+
+        Assertions.assertNull(Sampler.rates(rules, "com.acme.db.pool"));
+        Assertions.assertEquals(100, Sampler.rates(rules, "com.acme.web")[Level.DEBUG.ordinal()]);
+    }
+
+    @Test
+    public void testSample() {
+        int sampled = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (Sampler.sample(10)) {
+                sampled++;
+            }
+        }
+        // the expected count is 10,000 with a standard deviation of about 95
+        Assertions.assertTrue(sampled > 9_000 && sampled < 11_000, "Sampled " + sampled + " of 100,000 events");
+    }
+
+    @Test
+    public void testSampleRateTag() {
+        final JBossLoggerAdapter adapter = (JBossLoggerAdapter) LoggerFactory.getLogger(SamplerTestCase.class);
+        Sampler.log(adapter, 100, Level.INFO, SamplerTestCase.class.getName(), "Sampled", null);
+        final LogRecord record = HANDLER.messages.poll();
+        Assertions.assertNotNull(record);
+        Assertions.assertEquals("100", HANDLER.context(record).get(Sampler.SAMPLE_RATE_KEY));
+        Assertions.assertNull(MDC.get(Sampler.SAMPLE_RATE_KEY));
+    }
+}
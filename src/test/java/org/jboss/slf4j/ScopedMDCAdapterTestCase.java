@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogRecord;
+
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+public class ScopedMDCAdapterTestCase {
+    private static final QueueHandler HANDLER = new QueueHandler();
+
+    private final ScopedMDCAdapter adapter = new ScopedMDCAdapter();
+
+    @BeforeAll
+    public static void configureLogManager() {
+        HANDLER.install();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        HANDLER.uninstall();
+    }
+
+    @AfterEach
+    public void clearMdc() {
+        adapter.clear();
+        HANDLER.reset();
+    }
+
+    @Test
+    public void testContext() {
+        adapter.put("key1", "value1");
+        adapter.put("key2", "value2");
+        Assertions.assertEquals("value1", adapter.get("key1"));
+        Assertions.assertEquals(Map.of("key1", "value1", "key2", "value2"), adapter.getCopyOfContextMap());
+        // the context is not kept in the JBoss Logging MDC
+        Assertions.assertNull(MDC.get("key1"));
+
+        adapter.remove("key1");
+        Assertions.assertNull(adapter.get("key1"));
+        adapter.clear();
+        Assertions.assertTrue(adapter.getCopyOfContextMap().isEmpty());
+    }
+
+    @Test
+    public void testNotInherited() throws Exception {
+        adapter.put("parent", "value");
+        final Map<String, String> parent = adapter.getCopyOfContextMap();
+        final AtomicReference<Map<String, String>> inherited = new AtomicReference<>();
+        final AtomicReference<Map<String, String>> bound = new AtomicReference<>();
+        final Thread thread = new Thread(() -> {
+            inherited.set(adapter.getCopyOfContextMap());
+            ScopedMDCAdapter.runWith(parent, () -> {
+                adapter.put("child", "value");
+                bound.set(adapter.getCopyOfContextMap());
+            });
+        });
+        thread.start();
+        thread.join();
+        Assertions.assertTrue(inherited.get().isEmpty());
+        Assertions.assertEquals(Map.of("parent", "value", "child", "value"), bound.get());
+        // changes in the child are not visible to the parent
+        Assertions.assertNull(adapter.get("child"));
+    }
+
+    @Test
+    public void testRunWith() throws Exception {
+        adapter.put("key", "outer");
+        final Map<String, String> outer = adapter.getCopyOfContextMap();
+        ScopedMDCAdapter.runWith(Map.of("key", "inner"), () -> {
+            Assertions.assertEquals("inner", adapter.get("key"));
+            adapter.put("other", "value");
+        });
+        Assertions.assertEquals(outer, adapter.getCopyOfContextMap());
+        Assertions.assertEquals("inner", ScopedMDCAdapter.callWith(Map.of("key", "inner"), () -> adapter.get("key")));
+        Assertions.assertEquals("outer", adapter.get("key"));
+    }
+
+    @Test
+    public void testLog() {
+        final JBossLoggerAdapter logger = (JBossLoggerAdapter) LoggerFactory.getLogger(ScopedMDCAdapterTestCase.class);
+        adapter.put("user", "scoped");
+        adapter.put("tenant", "scoped");
+        MDC.put("tenant", "direct");
+        try {
+            ScopedMDCAdapter.log(logger, Level.INFO, ScopedMDCAdapterTestCase.class.getName(), "Scoped", null);
+            final LogRecord record = HANDLER.messages.poll();
+            Assertions.assertNotNull(record);
+            final Map<String, Object> context = HANDLER.context(record);
+            Assertions.assertEquals("scoped", context.get("user"));
+            // entries already in the MDC take precedence
+            Assertions.assertEquals("direct", context.get("tenant"));
+
+            // the context stays placed until it changes
+            Assertions.assertEquals("scoped", MDC.get("user"));
+            adapter.put("user", "changed");
+            Assertions.assertNull(MDC.get("user"));
+            ScopedMDCAdapter.log(logger, Level.INFO, ScopedMDCAdapterTestCase.class.getName(), "Changed", null);
+            Assertions.assertEquals("changed", HANDLER.context(HANDLER.messages.poll()).get("user"));
+            adapter.clear();
+            Assertions.assertNull(MDC.get("user"));
+            Assertions.assertEquals("direct", MDC.get("tenant"));
+        } finally {
+            MDC.remove("tenant");
+        }
+    }
+}
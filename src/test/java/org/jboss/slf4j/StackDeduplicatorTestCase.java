@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ *
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StackDeduplicatorTestCase {
+
+    @Test
+    public void testFingerprint() {
+        final Throwable[] failures = failures("first", "second");
+        final Throwable first = failures[0];
+        // the message is not part of the fingerprint
+        Assertions.assertEquals(StackDeduplicator.fingerprint(first), StackDeduplicator.fingerprint(failures[1]));
+        // the call site is
+        Assertions.assertNotEquals(StackDeduplicator.fingerprint(first),
+                StackDeduplicator.fingerprint(failures("first")[0]));
+
+        Assertions.assertNotEquals(StackDeduplicator.fingerprint(first),
+                StackDeduplicator.fingerprint(new IllegalStateException("first", first.getCause())));
+        Assertions.assertNotEquals(StackDeduplicator.fingerprint(first),
+                StackDeduplicator.fingerprint(new RuntimeException("first")));
+        Assertions.assertNotEquals(StackDeduplicator.fingerprint(first),
+                StackDeduplicator.fingerprint(new RuntimeException("first", new IllegalStateException())));
+
+        // a cycle of causes terminates
+        final RuntimeException a = new RuntimeException("a");
+        final RuntimeException b = new RuntimeException("b", a);
+        a.initCause(b);
+        StackDeduplicator.fingerprint(a);
+    }
+
+    @Test
+    public void testReference() throws Exception {
+        final StackDeduplicator deduplicator = new StackDeduplicator(TimeUnit.SECONDS.toNanos(60L), 16);
+        final Throwable[] failures = failures(new String[1_204]);
+        final StackDeduplicator.Reference first = deduplicator.reference(DeferredMessage.of("Failed {}", 1),
+                failures[0]);
+        Assertions.assertNotNull(first);
+        Assertions.assertFalse(first.isRepeat());
+        final String id = first.toString().substring("Failed 1 [stack #".length(), first.toString().length() - 1);
+        Assertions.assertEquals("Failed 1 [stack #" + id + "]", first.toString());
+
+        StackDeduplicator.Reference repeat = null;
+        for (int i = 1; i < failures.length; i++) {
+            repeat = deduplicator.reference("Failed again", failures[i]);
+        }
+        Assertions.assertNotNull(repeat);
+        Assertions.assertTrue(repeat.isRepeat());
+        Assertions.assertEquals(String.format("Failed again (same stack as #%s, %,d occurrences)", id, 1_204),
+                repeat.toString());
+
+        // a different stack is logged in full
+        Assertions.assertFalse(deduplicator.reference("Other", new IllegalStateException()).isRepeat());
+    }
+
+    @Test
+    public void testWindow() throws Exception {
+        final StackDeduplicator deduplicator = new StackDeduplicator(TimeUnit.MILLISECONDS.toNanos(50L), 1);
+        final Throwable[] failures = failures("1", "2", "3");
+        Assertions.assertFalse(deduplicator.reference("Failed", failures[0]).isRepeat());
+        Assertions.assertTrue(deduplicator.reference("Failed", failures[1]).isRepeat());
+        // only one stack is tracked
+        Assertions.assertNull(deduplicator.reference("Other", new IllegalStateException()));
+
+        Thread.sleep(100L);
+        // the window has passed, so the stack is logged in full again and the other stack can replace it
+        Assertions.assertFalse(deduplicator.reference("Failed", failures[2]).isRepeat());
+        Thread.sleep(100L);
+        Assertions.assertFalse(deduplicator.reference("Other", new IllegalStateException()).isRepeat());
+    }
+
+    private static Throwable[] failures(final String... messages) {
+        final Throwable[] failures = new Throwable[messages.length];
+        for (int i = 0; i < messages.length; i++) {
+            // every throwable is created on the same line, so they share a stack
+            failures[i] = new RuntimeException(messages[i], new IllegalArgumentException("cause"));
+        }
+        return failures;
+    }
+}